@@ -1,7 +1,13 @@
 import exceptions.PaymentFailedException;
 import interfaces.PaymentProcessor;
+import logging.EventLog;
 import models.OldPaymentSystem;
+import models.PaymentRequest;
+import models.PaymentStatus;
 import utils.PaymentAdapter;
+import utils.ResilientPaymentProcessor;
+
+import java.util.List;
 
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
@@ -23,5 +29,23 @@ public class Main {
             e.printStackTrace();
         }
 
+        //Pagos en lote: G178 ya fue rechazado y no se vuelve a procesar
+        List<PaymentStatus> statuses = adapter.processPayments(List.of(
+                new PaymentRequest(300, "K901"),
+                new PaymentRequest(1500, "K902"),
+                new PaymentRequest(1200, "G178")));
+        EventLog.console().flush();
+        System.out.println("Resultado del lote: " + statuses);
+
+        //Pago con breaker, timeout y fallback al sistema antiguo
+        ResilientPaymentProcessor resilient = new ResilientPaymentProcessor();
+        try {
+            resilient.processPayment(250, "R777");
+        } catch (PaymentFailedException e) {
+            e.printStackTrace();
+        }
+        EventLog.console().flush();
+        System.out.println(resilient.stats());
+
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package benchmarks;
+
+import exceptions.PaymentFailedException;
+import exceptions.PaymentOutcomeUnknownException;
+import interfaces.PaymentProcessor;
+import models.ResilienceStats;
+import utils.ResilienceSettings;
+import utils.ResilientPaymentProcessor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+// java benchmarks.FaultInjectionHarness [pagos por fase]
+// Recorre fases sano -> lento -> con errores -> recuperado con un procesador que inyecta fallas y
+// mide la latencia que ve quien llama a ResilientPaymentProcessor, junto con cuantos pagos quedaron
+// fallidos o con resultado desconocido (timeout) por fase.
+public class FaultInjectionHarness {
+
+    // Las llamadas colgadas ya no se interrumpen y ocupan el bulkhead hasta terminar: la fase lenta
+    // tiene que durar menos que la pausa entre fases para que la siguiente llegue al procesador.
+    private static final long SLOW_MILLIS = 1_000;
+
+    enum Fault {
+        HEALTHY,
+        SLOW,
+        FAILING
+    }
+
+    static class FaultInjectingProcessor implements PaymentProcessor {
+        private volatile Fault fault = Fault.HEALTHY;
+
+        @Override
+        public void processPayment(double amount, String paymentId) throws PaymentFailedException {
+            try {
+                switch (fault) {
+                    case HEALTHY -> Thread.sleep(2);
+                    case SLOW -> Thread.sleep(SLOW_MILLIS);
+                    case FAILING -> {
+                        Thread.sleep(1);
+                        throw new IllegalStateException("Procesador no disponible");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (amount > 1000) {
+                throw new PaymentFailedException("Pago fallido con id:" + paymentId + "\n el monto supera el limite");
+            }
+        }
+    }
+
+    static class CountingFallback implements PaymentProcessor {
+        private final LongAdder payments = new LongAdder();
+
+        @Override
+        public void processPayment(double amount, String paymentId) {
+            payments.increment();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int paymentsPerPhase = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        FaultInjectingProcessor faulty = new FaultInjectingProcessor();
+        CountingFallback fallback = new CountingFallback();
+        ResilienceSettings settings = new ResilienceSettings(
+                Duration.ofMillis(100), 16, 3, Duration.ofMillis(20), 5, Duration.ofMillis(500));
+
+        try (ExecutorService calls = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService callers = Executors.newFixedThreadPool(50)) {
+            ResilientPaymentProcessor resilient = new ResilientPaymentProcessor(faulty, fallback, settings, calls);
+            for (Fault fault : List.of(Fault.HEALTHY, Fault.SLOW, Fault.FAILING, Fault.HEALTHY)) {
+                faulty.fault = fault;
+                // Da tiempo a que un breaker abierto pase a HALF_OPEN y pruebe la nueva fase.
+                Thread.sleep(settings.openDuration().toMillis());
+                List<Future<Long>> pending = new ArrayList<>(paymentsPerPhase);
+                LongAdder failed = new LongAdder();
+                LongAdder unknown = new LongAdder();
+                long start = System.nanoTime();
+                for (int i = 0; i < paymentsPerPhase; i++) {
+                    String paymentId = fault + "-" + i;
+                    pending.add(callers.submit(() -> {
+                        long begin = System.nanoTime();
+                        try {
+                            resilient.processPayment(100, paymentId);
+                        } catch (PaymentOutcomeUnknownException e) {
+                            unknown.increment();
+                        } catch (PaymentFailedException e) {
+                            failed.increment();
+                        }
+                        return System.nanoTime() - begin;
+                    }));
+                }
+                long[] latencies = new long[paymentsPerPhase];
+                for (int i = 0; i < paymentsPerPhase; i++) {
+                    latencies[i] = pending.get(i).get();
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                Arrays.sort(latencies);
+                ResilienceStats stats = resilient.stats();
+                System.out.printf("%-8s %5.2f s  p50 %6.1f ms  p99 %6.1f ms  max %6.1f ms  fallidos %d  desconocidos %d  %s%n",
+                        fault, seconds, latencies[paymentsPerPhase / 2] / 1e6,
+                        latencies[paymentsPerPhase * 99 / 100] / 1e6, latencies[paymentsPerPhase - 1] / 1e6,
+                        failed.sum(), unknown.sum(), stats);
+            }
+            long bound = 2 * settings.maxAttempts() * settings.timeout().toMillis()
+                    + settings.baseBackoff().toMillis() * ((1L << settings.maxAttempts()) - 1);
+            System.out.println("cota teorica por pago: " + bound + " ms (sin proteccion, la fase lenta tarda " + SLOW_MILLIS + " ms por pago)");
+            System.out.println("pagos desviados al sistema viejo: " + fallback.payments.sum());
+        }
+    }
+}
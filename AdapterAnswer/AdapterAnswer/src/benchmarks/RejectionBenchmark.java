@@ -0,0 +1,89 @@
+package benchmarks;
+
+import exceptions.PaymentFailedException;
+import logging.EventLog;
+import models.NewPaymentProcessor;
+import models.PaymentRequest;
+import models.PaymentStatus;
+import utils.PaymentAdapter;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+// java benchmarks.RejectionBenchmark [pagos]
+// Sin JMH en este proyecto: cada variante se calienta antes de medir y el resultado se acumula en
+// un contador para que el JIT no elimine el trabajo.
+public class RejectionBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int payments = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        NewPaymentProcessor processor = new NewPaymentProcessor();
+        String[] ids = new String[payments];
+        double[] amounts = new double[payments];
+        for (int i = 0; i < payments; i++) {
+            ids[i] = "P" + i;
+            amounts[i] = NewPaymentProcessor.PAYMENT_LIMIT + 1 + i % 500;
+        }
+
+        long sink = 0;
+        double exceptionRate = 0;
+        double resultRate = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < payments; i++) {
+                try {
+                    processor.makePayment(amounts[i], ids[i]);
+                } catch (PaymentFailedException e) {
+                    sink += e.getMessage().length();
+                }
+            }
+            double exceptions = payments / ((System.nanoTime() - start) / 1e9);
+
+            start = System.nanoTime();
+            for (int i = 0; i < payments; i++) {
+                if (processor.tryPayment(amounts[i], ids[i]) == PaymentStatus.OVER_LIMIT) {
+                    sink += ids[i].length();
+                }
+            }
+            double results = payments / ((System.nanoTime() - start) / 1e9);
+            // La ronda 0 es de calentamiento.
+            if (round > 0) {
+                exceptionRate += exceptions / ROUNDS;
+                resultRate += results / ROUNDS;
+            }
+        }
+        System.out.printf("rechazo con excepcion: %.1f M pagos/s%n", exceptionRate / 1e6);
+        System.out.printf("rechazo con PaymentStatus: %.1f M pagos/s (x%.0f)%n",
+                resultRate / 1e6, resultRate / exceptionRate);
+
+        List<PaymentRequest> batch = new ArrayList<>(payments);
+        for (int i = 0; i < payments; i++) {
+            batch.add(new PaymentRequest(i % 2 == 0 ? 500 : amounts[i], ids[i]));
+        }
+        // Cada pago aprobado se loguea una vez: se descarta la salida para no medir la consola.
+        EventLog discard = new EventLog(new PrintStream(OutputStream.nullOutputStream()), 1 << 16);
+        PaymentAdapter adapter = new PaymentAdapter(new NewPaymentProcessor(discard), ForkJoinPool.commonPool(),
+                discard, Duration.ofHours(24), payments);
+        long start = System.nanoTime();
+        List<PaymentStatus> first = adapter.processPayments(batch);
+        double firstRate = payments / ((System.nanoTime() - start) / 1e9);
+        // El writer del log no debe competir por CPU con la medicion del reintento.
+        discard.flush();
+        start = System.nanoTime();
+        List<PaymentStatus> replay = adapter.processPayments(batch);
+        double replayRate = payments / ((System.nanoTime() - start) / 1e9);
+        System.out.printf("lote via PaymentAdapter: %.1f M pagos/s, reintento del mismo lote: %.1f M pagos/s%n",
+                firstRate / 1e6, replayRate / 1e6);
+        System.out.println(first.equals(replay) && adapter.processedCount() == payments
+                ? "OK: el reintento devolvio los mismos estados sin procesar de nuevo"
+                : "ERROR: la idempotencia no se respeto");
+        discard.close();
+        System.out.println("(sink " + sink + ")");
+    }
+}
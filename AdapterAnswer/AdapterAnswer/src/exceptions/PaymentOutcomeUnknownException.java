@@ -0,0 +1,11 @@
+package exceptions;
+
+// El pago llego al procesador pero no hubo respuesta a tiempo: puede haberse cobrado o no, asi que
+// no se reintenta ni se desvia a otro sistema. Hay que conciliarlo antes de volver a cobrarlo.
+public class PaymentOutcomeUnknownException extends PaymentFailedException {
+    private static final long serialVersionUID = 1L;
+
+    public PaymentOutcomeUnknownException(String msg) {
+        super(msg);
+    }
+}
@@ -1,8 +1,30 @@
 package interfaces;
 
 import exceptions.PaymentFailedException;
+import exceptions.PaymentOutcomeUnknownException;
+import models.PaymentRequest;
+import models.PaymentStatus;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public interface PaymentProcessor {
 
     void processPayment(double amount, String paymentId) throws PaymentFailedException;
+
+    // Devuelve un estado por pago, en el mismo orden que la lista recibida.
+    default List<PaymentStatus> processPayments(List<PaymentRequest> payments) {
+        List<PaymentStatus> statuses = new ArrayList<>(payments.size());
+        for (PaymentRequest payment : payments) {
+            try {
+                processPayment(payment.amount(), payment.paymentId());
+                statuses.add(PaymentStatus.APPROVED);
+            } catch (PaymentOutcomeUnknownException e) {
+                statuses.add(PaymentStatus.UNKNOWN);
+            } catch (PaymentFailedException e) {
+                statuses.add(PaymentStatus.REJECTED);
+            }
+        }
+        return statuses;
+    }
 }
@@ -1,16 +1,35 @@
 package models;
 
 import exceptions.PaymentFailedException;
-import interfaces.PaymentProcessor;
+import logging.EventLog;
 
 public class NewPaymentProcessor {
 
+    public static final double PAYMENT_LIMIT = 1000;
+    private static final EventLog.Message PAYMENT_PROCESSED =
+            EventLog.Message.of("Pago con id: {} procesado por el monto de: ${}");
+
+    private final EventLog log;
+
+    public NewPaymentProcessor() {
+        this(EventLog.console());
+    }
+
+    public NewPaymentProcessor(EventLog log) {
+        this.log = log;
+    }
+
     public void makePayment(double amount, String paymentId ) throws PaymentFailedException {
-         if(amount>1000){
+         if(tryPayment(amount, paymentId) == PaymentStatus.OVER_LIMIT){
              throw new PaymentFailedException("Pago fallido con id:"+ paymentId+"\n el monto supera el limite");
          } else {
-             System.out.println("Pago con id: " +paymentId+ " procesado por el monto de: $" + amount);
+             log.log(PAYMENT_PROCESSED, paymentId, amount);
          }
     }
 
+    // Misma regla que makePayment pero sin crear una excepcion por cada rechazo.
+    public PaymentStatus tryPayment(double amount, String paymentId) {
+        return amount > PAYMENT_LIMIT ? PaymentStatus.OVER_LIMIT : PaymentStatus.APPROVED;
+    }
+
 }
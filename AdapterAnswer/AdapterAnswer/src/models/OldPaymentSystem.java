@@ -1,10 +1,14 @@
 package models;
 
 import interfaces.PaymentProcessor;
+import logging.EventLog;
 
 public class OldPaymentSystem implements PaymentProcessor {
+    private static final EventLog.Message PAYMENT_PROCESSED =
+            EventLog.Message.of("Pago con id: {} procesado por el monto de: ${}");
+
     @Override
     public void processPayment(double amount, String paymentId) {
-        System.out.println("Pago con id: " +paymentId+ " procesado por el monto de: $" + amount);
+        EventLog.console().log(PAYMENT_PROCESSED, paymentId, amount);
     }
 }
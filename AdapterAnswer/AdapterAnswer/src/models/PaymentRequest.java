@@ -0,0 +1,4 @@
+package models;
+
+public record PaymentRequest(double amount, String paymentId) {
+}
@@ -0,0 +1,10 @@
+package models;
+
+// Resultado de un pago sin excepciones: los rechazos esperados son parte del flujo normal.
+// UNKNOWN: el procesador no respondio a tiempo y el pago puede haberse cobrado; hay que conciliarlo.
+public enum PaymentStatus {
+    APPROVED,
+    OVER_LIMIT,
+    REJECTED,
+    UNKNOWN
+}
@@ -0,0 +1,5 @@
+package models;
+
+public record ResilienceStats(long primary, long fallbacks, long retries, long timeouts, long bulkheadRejections,
+                              String breakerState) {
+}
@@ -0,0 +1,64 @@
+package utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+// CLOSED: pasan todas las llamadas. Tras failureThreshold fallas seguidas pasa a OPEN y no deja
+// pasar ninguna hasta que vence openDuration; entonces HALF_OPEN deja pasar una sola llamada de
+// prueba que decide si vuelve a CLOSED o a OPEN.
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier ticker;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier ticker) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("El umbral de fallas debe ser mayor a 0");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.ticker = ticker;
+    }
+
+    public boolean allowRequest() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case OPEN -> ticker.getAsLong() - openedAt >= openNanos
+                    && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+            case HALF_OPEN -> false;
+        };
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void recordFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = ticker.getAsLong();
+            state.set(State.OPEN);
+            consecutiveFailures.set(0);
+        }
+    }
+
+    public State state() {
+        return state.get();
+    }
+}
@@ -2,16 +2,158 @@ package utils;
 
 import exceptions.PaymentFailedException;
 import interfaces.PaymentProcessor;
+import logging.EventLog;
 import models.NewPaymentProcessor;
+import models.PaymentRequest;
+import models.PaymentStatus;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Un pago se registra por paymentId durante retention: un reintento con el mismo id devuelve el estado
+// original sin volver a cobrarse. El cobro lo hace siempre NewPaymentProcessor.makePayment, fuera de
+// los locks del mapa: el primero que registra el id cobra y los reintentos concurrentes esperan su
+// resultado.
 public class PaymentAdapter implements PaymentProcessor {
+    private static final EventLog.Message AMOUNT_MISMATCH =
+            EventLog.Message.of("Pago con id: {} rechazado: el id ya se uso con otro monto, recibido: ${}");
+    private static final EventLog.Message CAPACITY_EXCEEDED =
+            EventLog.Message.of("Pago con id: {} rechazado: no hay lugar para registrar el pago de: ${}");
+    private static final int CHUNK_SIZE = 1_024;
+    private static final Duration DEFAULT_RETENTION = Duration.ofHours(24);
+    private static final int DEFAULT_MAX_TRACKED = 1_000_000;
+    private static final long FULL_SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
     private NewPaymentProcessor newPaymentProcessor;
+    private Executor executor;
+    private final EventLog log;
+    private final long retentionNanos;
+    private final int maxTracked;
+    private final long sweepIntervalNanos;
+    private final Map<String, Processed> processed = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
 
     public PaymentAdapter(){
-        this.newPaymentProcessor = new NewPaymentProcessor();
+        this(new NewPaymentProcessor(), ForkJoinPool.commonPool());
+    }
+
+    public PaymentAdapter(NewPaymentProcessor newPaymentProcessor, Executor executor) {
+        this(newPaymentProcessor, executor, EventLog.console(), DEFAULT_RETENTION, DEFAULT_MAX_TRACKED);
+    }
+
+    // Con maxTracked pagos vigentes registrados, los ids nuevos se rechazan: olvidar un id podria cobrarlo dos veces.
+    public PaymentAdapter(NewPaymentProcessor newPaymentProcessor, Executor executor, EventLog log,
+                          Duration retention, int maxTracked) {
+        if (retention.isNegative() || retention.isZero() || maxTracked <= 0) {
+            throw new IllegalArgumentException("La retencion y la cantidad maxima de pagos deben ser mayores a 0");
+        }
+        this.newPaymentProcessor = newPaymentProcessor;
+        this.executor = executor;
+        this.log = log;
+        this.retentionNanos = retention.toNanos();
+        this.maxTracked = maxTracked;
+        this.sweepIntervalNanos = Math.max(1, retentionNanos / 16);
     }
+
     @Override
     public void processPayment(double amount, String paymentId) throws PaymentFailedException {
-        newPaymentProcessor.makePayment(amount,paymentId);
+        PaymentStatus status = pay(amount, paymentId);
+        if (status == PaymentStatus.OVER_LIMIT) {
+            throw new PaymentFailedException("Pago fallido con id:"+ paymentId+"\n el monto supera el limite");
+        }
+        if (status == PaymentStatus.REJECTED) {
+            throw new PaymentFailedException("Pago fallido con id:"+ paymentId+"\n el pago fue rechazado");
+        }
+    }
+
+    // Los pagos se envian al procesador en bloques paralelos; el resultado respeta el orden de entrada.
+    @Override
+    public List<PaymentStatus> processPayments(List<PaymentRequest> payments) {
+        PaymentStatus[] statuses = new PaymentStatus[payments.size()];
+        CompletableFuture<?>[] chunks = new CompletableFuture<?>[(payments.size() + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, payments.size());
+            chunks[chunk] = CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    PaymentRequest payment = payments.get(i);
+                    statuses[i] = pay(payment.amount(), payment.paymentId());
+                }
+            }, executor);
+        }
+        CompletableFuture.allOf(chunks).join();
+        return Arrays.asList(statuses);
+    }
+
+    public int processedCount() {
+        return processed.size();
+    }
+
+    private PaymentStatus pay(double amount, String paymentId) {
+        Processed entry = processed.get(paymentId);
+        if (entry == null) {
+            // Solo los ids nuevos hacen crecer el mapa: la limpieza se hace en este camino y no en los reintentos.
+            long now = System.nanoTime();
+            if (!sweep(now, processed.size() >= maxTracked)) {
+                log.log(CAPACITY_EXCEEDED, paymentId, amount);
+                return PaymentStatus.REJECTED;
+            }
+            Processed pending = new Processed(amount, new CompletableFuture<>(), now + retentionNanos);
+            entry = processed.putIfAbsent(paymentId, pending);
+            if (entry == null) {
+                return charge(pending, amount, paymentId);
+            }
+        }
+        if (Double.compare(entry.amount(), amount) != 0) {
+            log.log(AMOUNT_MISMATCH, paymentId, amount);
+            return PaymentStatus.REJECTED;
+        }
+        try {
+            return entry.status().join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    // El limite se consulta con tryPayment para no crear una excepcion por rechazo; los aprobados se cobran
+    // con makePayment. Si el cobro falla por un error tecnico el id se libera para que se pueda reintentar.
+    private PaymentStatus charge(Processed pending, double amount, String paymentId) {
+        PaymentStatus status;
+        try {
+            status = newPaymentProcessor.tryPayment(amount, paymentId);
+            if (status == PaymentStatus.APPROVED) {
+                newPaymentProcessor.makePayment(amount, paymentId);
+            }
+        } catch (PaymentFailedException e) {
+            status = PaymentStatus.OVER_LIMIT;
+        } catch (RuntimeException e) {
+            processed.remove(paymentId, pending);
+            pending.status().completeExceptionally(e);
+            throw e;
+        }
+        pending.status().complete(status);
+        return status;
+    }
+
+    // Quita los pagos vencidos como mucho una vez por intervalo; con el mapa lleno (full) el intervalo se
+    // acorta a un segundo. Devuelve true si queda lugar para un pago nuevo.
+    private boolean sweep(long now, boolean full) {
+        long last = lastSweep.get();
+        long interval = full ? Math.min(sweepIntervalNanos, FULL_SWEEP_INTERVAL_NANOS) : sweepIntervalNanos;
+        if (now - last >= interval && lastSweep.compareAndSet(last, now)) {
+            processed.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+        }
+        return processed.size() < maxTracked;
+    }
+
+    private record Processed(double amount, CompletableFuture<PaymentStatus> status, long expiresAt) {
     }
 }
@@ -0,0 +1,10 @@
+package utils;
+
+import java.time.Duration;
+
+public record ResilienceSettings(Duration timeout, int maxConcurrentCalls, int maxAttempts, Duration baseBackoff,
+                                 int failureThreshold, Duration openDuration) {
+
+    public static final ResilienceSettings DEFAULTS = new ResilienceSettings(
+            Duration.ofMillis(500), 32, 3, Duration.ofMillis(50), 5, Duration.ofSeconds(5));
+}
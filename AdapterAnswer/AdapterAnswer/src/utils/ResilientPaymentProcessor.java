@@ -0,0 +1,180 @@
+package utils;
+
+import exceptions.PaymentFailedException;
+import exceptions.PaymentOutcomeUnknownException;
+import interfaces.PaymentProcessor;
+import models.NewPaymentProcessor;
+import models.OldPaymentSystem;
+import models.PaymentStatus;
+import models.ResilienceStats;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+// Envuelve un PaymentProcessor (normalmente PaymentAdapter) para que una caida del procesador
+// nuevo no se contagie a quien llama:
+// - cada intento tiene timeout y el bulkhead limita cuantas llamadas hay en curso (esperar un lugar
+//   tampoco puede superar el timeout);
+// - las fallas tecnicas se reintentan con backoff exponencial y jitter, solo con el breaker cerrado;
+// - solo va al sistema viejo un pago que el procesador nuevo nunca recibio (breaker abierto,
+//   bulkhead lleno o ejecutor rechazando tareas). Si algun intento llego a ejecutarse, desviarlo
+//   podria cobrarlo dos veces: con los intentos agotados se informa la falla, y ante un timeout o
+//   una interrupcion se lanza PaymentOutcomeUnknownException sin reintentar. El id queda anotado y un
+//   reintento de ese pago tampoco va al sistema viejo (que no deduplica por id) hasta que el
+//   procesador nuevo responda por el.
+// Un PaymentFailedException es un rechazo de negocio (por ejemplo el limite): se propaga tal cual,
+// no se reintenta ni se desvia al fallback. El sistema viejo no conoce el limite de pago, asi que
+// antes de desviarle un pago se aplican las reglas de NewPaymentProcessor.
+public class ResilientPaymentProcessor implements PaymentProcessor {
+
+    private final PaymentProcessor primary;
+    private final PaymentProcessor fallback;
+    private final NewPaymentProcessor rules;
+    private final ResilienceSettings settings;
+    private final ExecutorService executor;
+    private final CircuitBreaker breaker;
+    private final Semaphore bulkhead;
+    private final LongAdder primaryPayments = new LongAdder();
+    private final LongAdder fallbackPayments = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+    // Solo crece con timeouts; un id sale cuando el procesador nuevo vuelve a responder por el.
+    private final Set<String> unknownOutcomes = ConcurrentHashMap.newKeySet();
+
+    public ResilientPaymentProcessor(PaymentProcessor primary, PaymentProcessor fallback,
+                                     ResilienceSettings settings, ExecutorService executor) {
+        this(primary, fallback, new NewPaymentProcessor(), settings, executor);
+    }
+
+    public ResilientPaymentProcessor(PaymentProcessor primary, PaymentProcessor fallback, NewPaymentProcessor rules,
+                                     ResilienceSettings settings, ExecutorService executor) {
+        this.primary = primary;
+        this.fallback = fallback;
+        this.rules = rules;
+        this.settings = settings;
+        this.executor = executor;
+        this.breaker = new CircuitBreaker(settings.failureThreshold(), settings.openDuration());
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+    }
+
+    public ResilientPaymentProcessor() {
+        this(new PaymentAdapter(), new OldPaymentSystem(), ResilienceSettings.DEFAULTS,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Override
+    public void processPayment(double amount, String paymentId) throws PaymentFailedException {
+        boolean attempted = false;
+        for (int attempt = 1; ; attempt++) {
+            // El permiso se devuelve cuando la llamada termina de verdad, no al vencer el timeout:
+            // asi las llamadas colgadas siguen ocupando lugar y el bulkhead corta el exceso.
+            if (!acquirePermit(paymentId)) {
+                bulkheadRejections.increment();
+                break;
+            }
+            if (!breaker.allowRequest()) {
+                bulkhead.release();
+                break;
+            }
+            // Si el breaker estaba en HALF_OPEN esta es la llamada de prueba: toda salida tiene que
+            // registrar un resultado, o el breaker queda en HALF_OPEN sin dejar pasar nada.
+            Future<Void> call;
+            try {
+                call = executor.submit(() -> {
+                    try {
+                        primary.processPayment(amount, paymentId);
+                        return null;
+                    } finally {
+                        bulkhead.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                bulkhead.release();
+                breaker.recordFailure();
+                break;
+            }
+            attempted = true;
+            try {
+                call.get(settings.timeout().toNanos(), TimeUnit.NANOSECONDS);
+                breaker.recordSuccess();
+                unknownOutcomes.remove(paymentId);
+                primaryPayments.increment();
+                return;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof PaymentFailedException rejection) {
+                    breaker.recordSuccess();
+                    unknownOutcomes.remove(paymentId);
+                    throw rejection;
+                }
+                breaker.recordFailure();
+            } catch (TimeoutException e) {
+                // No se interrumpe la llamada: cortarla a mitad de camino no garantiza que no cobre.
+                timeouts.increment();
+                breaker.recordFailure();
+                unknownOutcomes.add(paymentId);
+                throw new PaymentOutcomeUnknownException("Pago sin respuesta con id: " + paymentId
+                        + "\n el procesador puede haberlo cobrado");
+            } catch (InterruptedException e) {
+                breaker.recordFailure();
+                unknownOutcomes.add(paymentId);
+                Thread.currentThread().interrupt();
+                throw new PaymentOutcomeUnknownException("Pago interrumpido con id: " + paymentId
+                        + "\n el procesador puede haberlo cobrado");
+            }
+            if (attempt >= settings.maxAttempts()) {
+                break;
+            }
+            retries.increment();
+            backoff(attempt, paymentId);
+        }
+        if (attempted) {
+            throw new PaymentFailedException("Pago fallido con id:" + paymentId + "\n el procesador no esta disponible");
+        }
+        if (unknownOutcomes.contains(paymentId)) {
+            throw new PaymentOutcomeUnknownException("Pago sin conciliar con id: " + paymentId
+                    + "\n no se desvia al sistema viejo porque puede estar cobrado");
+        }
+        if (rules.tryPayment(amount, paymentId) == PaymentStatus.OVER_LIMIT) {
+            throw new PaymentFailedException("Pago fallido con id:" + paymentId + "\n el monto supera el limite");
+        }
+        fallbackPayments.increment();
+        fallback.processPayment(amount, paymentId);
+    }
+
+    public ResilienceStats stats() {
+        return new ResilienceStats(primaryPayments.sum(), fallbackPayments.sum(), retries.sum(), timeouts.sum(),
+                bulkheadRejections.sum(), breaker.state().name());
+    }
+
+    // Espera un lugar como mucho lo mismo que el timeout de la llamada.
+    private boolean acquirePermit(String paymentId) throws PaymentFailedException {
+        try {
+            return bulkhead.tryAcquire(settings.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentFailedException("Pago interrumpido con id: " + paymentId);
+        }
+    }
+
+    // Full jitter: espera un tiempo al azar entre 0 y base * 2^(intento-1).
+    private void backoff(int attempt, String paymentId) throws PaymentFailedException {
+        long ceiling = settings.baseBackoff().toNanos() << Math.min(attempt - 1, 16);
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentFailedException("Pago interrumpido con id: " + paymentId);
+        }
+    }
+}
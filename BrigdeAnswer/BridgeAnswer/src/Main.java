@@ -1,3 +1,4 @@
+import delivery.DeliveryEngine;
 import implementations.EmailChannel;
 import implementations.PushChannel;
 import implementations.SmsChannel;
@@ -25,5 +26,12 @@ public class Main {
         Message promotion = new PromotionMessage(pushChannel);
         promotion.sendMessage("Obten un 50% de descuento en tu siguiente compra");
 
+        //Ejemplo 4: Alerta critica enviada en paralelo por los tres canales
+        try (DeliveryEngine engine = new DeliveryEngine()) {
+            engine.register(smsChannel, 1);
+            Message fanOutAlert = new CriticalAlertMessage(emailChannel, smsChannel, pushChannel);
+            engine.submit(fanOutAlert, "Caida del servicio de pagos");
+        }
+
     }
 }
\ No newline at end of file
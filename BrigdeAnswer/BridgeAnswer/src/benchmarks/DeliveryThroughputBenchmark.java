@@ -0,0 +1,77 @@
+package benchmarks;
+
+import delivery.DeliveryEngine;
+import delivery.DeliveryStats;
+import interfaces.NotificationChannel;
+import models.CriticalAlertMessage;
+import models.Message;
+import models.Priority;
+import models.PromotionMessage;
+import models.ReminderMessage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// java benchmarks.DeliveryThroughputBenchmark [mensajes] [concurrencia por canal]
+public class DeliveryThroughputBenchmark {
+
+    // Canal de prueba: simula la latencia del proveedor sin imprimir nada.
+    static class StubChannel implements NotificationChannel {
+        private final long sendMicros;
+        private final LongAdder sent = new LongAdder();
+
+        StubChannel(long sendMicros) {
+            this.sendMicros = sendMicros;
+        }
+
+        @Override
+        public void sendNotification(String recipient, String message) {
+            long deadline = System.nanoTime() + sendMicros * 1_000;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            sent.increment();
+        }
+    }
+
+    public static void main(String[] args) {
+        int messages = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        StubChannel email = new StubChannel(5);
+        StubChannel sms = new StubChannel(20);
+        StubChannel push = new StubChannel(1);
+
+        Message alert = new CriticalAlertMessage(email, sms, push);
+        Message reminder = new ReminderMessage(email, push);
+        Message promotion = new PromotionMessage(email, sms, push);
+
+        DeliveryEngine engine = new DeliveryEngine(concurrency, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        long deliveries = 0;
+        for (int i = 0; i < messages; i++) {
+            Message message = i % 100 == 0 ? alert : i % 10 == 0 ? reminder : promotion;
+            deliveries += engine.submit(message, "cliente-" + (i % 1_000), "mensaje " + i);
+        }
+        double submitMillis = (System.nanoTime() - start) / 1e6;
+        engine.close();
+        double totalSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d mensajes, %d entregas, encolado en %.1f ms%n", messages, deliveries, submitMillis);
+        System.out.printf("throughput: %.0f entregas/s%n", deliveries / totalSeconds);
+        System.out.println("email: " + engine.stats(email));
+        System.out.println("sms:   " + engine.stats(sms));
+        System.out.println("push:  " + engine.stats(push));
+        for (Priority priority : Priority.values()) {
+            System.out.printf("latencia media %s: %.2f ms%n", priority, engine.averageLatencyMillis(priority));
+        }
+        DeliveryStats smsStats = engine.stats(sms);
+        System.out.println(smsStats.delivered() == sms.sent.sum()
+                && engine.averageLatencyMillis(Priority.CRITICAL) < engine.averageLatencyMillis(Priority.PROMOTION)
+                ? "OK: las alertas criticas se entregan antes que las promociones"
+                : "ERROR: la prioridad no se respeto");
+    }
+}
@@ -0,0 +1,108 @@
+package benchmarks;
+
+import delivery.DeliveryEngine;
+import delivery.PromotionThrottle;
+import interfaces.NotificationChannel;
+import models.CriticalAlertMessage;
+import models.Message;
+import models.Priority;
+import models.PromotionMessage;
+import models.ReminderMessage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// java benchmarks.PromotionBurstSimulation [mensajes] [destinatarios]
+// Reproduce una campania de marketing: 89% promociones, 10% recordatorios y 1% alertas criticas,
+// primero sin limites y despues con PromotionThrottle.
+public class PromotionBurstSimulation {
+
+    static class StubChannel implements NotificationChannel {
+        private final long sendNanos;
+
+        StubChannel(long sendNanos) {
+            this.sendNanos = sendNanos;
+        }
+
+        @Override
+        public void sendNotification(String recipient, String message) {
+            long deadline = System.nanoTime() + sendNanos;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        int messages = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int recipients = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+
+        System.out.println("--- sin limites ---");
+        replay(messages, recipients, false);
+        System.out.println("--- con PromotionThrottle ---");
+        replay(messages, recipients, true);
+    }
+
+    private static void replay(int messages, int recipients, boolean limited) {
+        StubChannel email = new StubChannel(2_000);
+        StubChannel sms = new StubChannel(5_000);
+        StubChannel push = new StubChannel(1_000);
+
+        PromotionThrottle throttle = null;
+        if (limited) {
+            throttle = new PromotionThrottle(1, 2, 60, TimeUnit.SECONDS)
+                    .limitChannel(push, 50_000, 1_000)
+                    .limitChannel(sms, 5_000, 500);
+        }
+        DeliveryEngine engine = new DeliveryEngine(2, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        }, throttle);
+
+        Message alert = new CriticalAlertMessage(email, sms, push);
+        Message reminder = new ReminderMessage(sms);
+        Message promotion = new PromotionMessage(push, sms);
+
+        AtomicInteger peakDepth = new AtomicInteger();
+        Thread monitor = Thread.ofPlatform().daemon().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                int depth = engine.queueDepth(email) + engine.queueDepth(sms) + engine.queueDepth(push);
+                peakDepth.accumulateAndGet(depth, Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long start = System.nanoTime();
+        long deliveries = 0;
+        for (int i = 0; i < messages; i++) {
+            String recipient = "cliente-" + (i % recipients);
+            if (i % 100 == 0) {
+                deliveries += engine.submit(alert, recipient, "Caida del servicio " + i);
+            } else if (i % 10 == 0) {
+                deliveries += engine.submit(reminder, recipient, "Vence tu factura " + i);
+            } else {
+                deliveries += engine.submit(promotion, recipient, "Campania " + (i % 3));
+            }
+        }
+        double submitSeconds = (System.nanoTime() - start) / 1e9;
+        engine.close();
+        double totalSeconds = (System.nanoTime() - start) / 1e9;
+        monitor.interrupt();
+
+        System.out.printf("%d mensajes encolados en %.2f s, vaciado total en %.2f s%n",
+                messages, submitSeconds, totalSeconds);
+        System.out.printf("entregas: %d, fusionadas: %d, limitadas por destinatario: %d%n",
+                deliveries, engine.coalescedPromotions(), engine.throttledPromotions());
+        System.out.println("sms:  " + engine.stats(sms));
+        System.out.println("push: " + engine.stats(push));
+        System.out.println("cola maxima: " + peakDepth.get());
+        for (Priority priority : Priority.values()) {
+            System.out.printf("latencia media %s: %.2f ms%n", priority, engine.averageLatencyMillis(priority));
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package delivery;
+
+import interfaces.NotificationChannel;
+import models.Message;
+import models.Priority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Un Message con varios canales se reparte (fan-out) a la cola de cada canal. Cada canal tiene su
+// propia cola por prioridad y tantos workers como su limite de concurrencia, asi un canal lento
+// no demora a los demas y una alerta critica no espera detras de miles de promociones.
+// Las colas son acotadas: con la cola llena una promocion se rechaza en el acto y los recordatorios
+// esperan hasta offerTimeout a que se libere lugar antes de rechazarse. Las alertas criticas tienen
+// su propio cupo de queueCapacity, asi una cola llena de promociones no las demora ni las rechaza.
+public class DeliveryEngine implements AutoCloseable {
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final int DEFAULT_QUEUE_CAPACITY = 100_000;
+    private static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 100;
+
+    private final int defaultConcurrency;
+    private final int queueCapacity;
+    private final long offerTimeoutNanos;
+    private final ThreadFactory threadFactory;
+    private final PromotionThrottle throttle;
+    private final Map<NotificationChannel, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder[] latencyNanos = new LongAdder[PRIORITIES.length];
+    private final LongAdder[] completed = new LongAdder[PRIORITIES.length];
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    // Los envios toman el read lock y close() el write lock: una vez cerrado no entra nada a ninguna cola.
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public DeliveryEngine(int defaultConcurrency, ThreadFactory threadFactory) {
+        this(defaultConcurrency, threadFactory, null);
+    }
+
+    // Con throttle null las promociones no se limitan.
+    public DeliveryEngine(int defaultConcurrency, ThreadFactory threadFactory, PromotionThrottle throttle) {
+        this(defaultConcurrency, DEFAULT_QUEUE_CAPACITY, DEFAULT_OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS,
+                threadFactory, throttle);
+    }
+
+    public DeliveryEngine(int defaultConcurrency, int queueCapacity, long offerTimeout, TimeUnit unit,
+                          ThreadFactory threadFactory, PromotionThrottle throttle) {
+        if (defaultConcurrency <= 0) {
+            throw new IllegalArgumentException("La concurrencia debe ser mayor a 0");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("La capacidad de la cola debe ser mayor a 0");
+        }
+        this.defaultConcurrency = defaultConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.offerTimeoutNanos = unit.toNanos(offerTimeout);
+        this.threadFactory = threadFactory;
+        this.throttle = throttle;
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            latencyNanos[i] = new LongAdder();
+            completed[i] = new LongAdder();
+        }
+    }
+
+    public DeliveryEngine() {
+        this(2, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Fija cuantas entregas en paralelo acepta el canal. Debe llamarse antes del primer envio por el.
+    public void register(NotificationChannel channel, int concurrencyLimit) {
+        if (concurrencyLimit <= 0) {
+            throw new IllegalArgumentException("La concurrencia debe ser mayor a 0");
+        }
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("El motor de entregas ya fue cerrado");
+            }
+            Lane lane = new Lane(channel, concurrencyLimit);
+            if (lanes.putIfAbsent(channel, lane) != null) {
+                throw new IllegalArgumentException("El canal " + channel.getClass().getSimpleName() + " ya fue registrado");
+            }
+            lane.start();
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    public int submit(Message message, String content) {
+        return submit(message, NotificationChannel.BROADCAST, content);
+    }
+
+    // Devuelve la cantidad de entregas encoladas: una por canal del mensaje, menos las promociones
+    // que el throttle fusiono o descarto y las que no entraron porque la cola del canal estaba llena.
+    public int submit(Message message, String recipient, String content) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("El motor de entregas ya fue cerrado");
+            }
+            return enqueue(message, recipient, content);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private int enqueue(Message message, String recipient, String content) {
+        String formatted = message.format(content);
+        Priority priority = message.getPriority();
+        boolean limited = throttle != null && priority == Priority.PROMOTION;
+        if (limited) {
+            if (throttle.coalesce(recipient, formatted)) {
+                coalesced.increment();
+                return 0;
+            }
+            if (!throttle.allowRecipient(recipient)) {
+                throttled.increment();
+                return 0;
+            }
+        }
+        long enqueuedAt = System.nanoTime();
+        int enqueued = 0;
+        for (NotificationChannel channel : message.getChannels()) {
+            Lane lane = laneFor(channel);
+            if (limited && !throttle.allowChannel(channel)) {
+                lane.throttled.increment();
+                continue;
+            }
+            if (!lane.reserve(priority)) {
+                lane.rejected.increment();
+                continue;
+            }
+            lane.queue.put(new Delivery(priority, sequence.getAndIncrement(), recipient, formatted, enqueuedAt));
+            enqueued++;
+        }
+        if (limited && enqueued > 0) {
+            throttle.remember(recipient, formatted);
+        }
+        return enqueued;
+    }
+
+    // Los workers arrancan solo si el carril entro al mapa: un carril perdido en la carrera no deja hilos.
+    private Lane laneFor(NotificationChannel channel) {
+        Lane lane = lanes.get(channel);
+        if (lane != null) {
+            return lane;
+        }
+        Lane created = new Lane(channel, defaultConcurrency);
+        lane = lanes.putIfAbsent(channel, created);
+        if (lane != null) {
+            return lane;
+        }
+        created.start();
+        return created;
+    }
+
+    public int queueDepth(NotificationChannel channel) {
+        Lane lane = lanes.get(channel);
+        return lane == null ? 0 : lane.queue.size();
+    }
+
+    public DeliveryStats stats(NotificationChannel channel) {
+        Lane lane = lanes.get(channel);
+        if (lane == null) {
+            return new DeliveryStats(0, 0, 0, 0, 0, 0);
+        }
+        long delivered = lane.delivered.sum();
+        long total = delivered + lane.failed.sum();
+        double average = total == 0 ? 0 : lane.latencyNanos.sum() / 1e6 / total;
+        return new DeliveryStats(lane.queue.size(), delivered, lane.failed.sum(), lane.throttled.sum(),
+                lane.rejected.sum(), average);
+    }
+
+    // Promociones descartadas por ser duplicadas dentro de la ventana.
+    public long coalescedPromotions() {
+        return coalesced.sum();
+    }
+
+    // Promociones descartadas por el limite del destinatario.
+    public long throttledPromotions() {
+        return throttled.sum();
+    }
+
+    public double averageLatencyMillis(Priority priority) {
+        long total = completed[priority.ordinal()].sum();
+        return total == 0 ? 0 : latencyNanos[priority.ordinal()].sum() / 1e6 / total;
+    }
+
+    // Deja de aceptar mensajes y espera a que se entreguen los que ya estaban encolados.
+    // Si se interrumpe la espera, los workers siguen vaciando las colas y se restaura la interrupcion.
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            for (Lane lane : lanes.values()) {
+                for (Thread worker : lane.workers) {
+                    worker.join();
+                }
+                // Un worker puede salir justo despues de un poll vacio; lo que quedo se entrega en este hilo.
+                Delivery delivery;
+                while ((delivery = lane.queue.poll()) != null) {
+                    lane.release(delivery.priority());
+                    lane.deliver(delivery);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Primero la prioridad y, dentro de la misma prioridad, el orden de llegada.
+    private record Delivery(Priority priority, long sequence, String recipient, String content, long enqueuedAt)
+            implements Comparable<Delivery> {
+
+        @Override
+        public int compareTo(Delivery other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private class Lane {
+        private final NotificationChannel channel;
+        private final PriorityBlockingQueue<Delivery> queue = new PriorityBlockingQueue<>();
+        // PriorityBlockingQueue no tiene limite propio: cada entrega encolada ocupa un permiso. Las
+        // criticas tienen un cupo aparte para no competir con recordatorios y promociones.
+        private final Semaphore space = new Semaphore(queueCapacity);
+        private final Semaphore criticalSpace = new Semaphore(queueCapacity);
+        private final int concurrencyLimit;
+        private final List<Thread> workers = new ArrayList<>();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+
+        Lane(NotificationChannel channel, int concurrencyLimit) {
+            this.channel = channel;
+            this.concurrencyLimit = concurrencyLimit;
+        }
+
+        // Se llama una sola vez, cuando el carril ya quedo publicado en el mapa.
+        private void start() {
+            for (int i = 0; i < concurrencyLimit; i++) {
+                Thread worker = threadFactory.newThread(this::drain);
+                worker.setName("delivery-" + channel.getClass().getSimpleName() + "-" + i);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                try {
+                    Delivery delivery = queue.poll(50, TimeUnit.MILLISECONDS);
+                    if (delivery == null) {
+                        if (closed) {
+                            return;
+                        }
+                        continue;
+                    }
+                    release(delivery.priority());
+                    deliver(delivery);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private boolean reserve(Priority priority) {
+            if (priority == Priority.PROMOTION) {
+                return space.tryAcquire();
+            }
+            try {
+                return permitsFor(priority).tryAcquire(offerTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void release(Priority priority) {
+            permitsFor(priority).release();
+        }
+
+        private Semaphore permitsFor(Priority priority) {
+            return priority == Priority.CRITICAL ? criticalSpace : space;
+        }
+
+        private void deliver(Delivery delivery) {
+            try {
+                channel.sendNotification(delivery.recipient(), delivery.content());
+                delivered.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+            }
+            long latency = System.nanoTime() - delivery.enqueuedAt();
+            latencyNanos.add(latency);
+            int index = delivery.priority().ordinal();
+            DeliveryEngine.this.latencyNanos[index].add(latency);
+            completed[index].increment();
+        }
+    }
+}
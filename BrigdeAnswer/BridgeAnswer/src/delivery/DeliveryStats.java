@@ -0,0 +1,5 @@
+package delivery;
+
+public record DeliveryStats(int queueDepth, long delivered, long failed, long throttled, long rejected,
+                            double averageLatencyMillis) {
+}
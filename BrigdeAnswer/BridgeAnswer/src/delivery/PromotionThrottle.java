@@ -0,0 +1,115 @@
+package delivery;
+
+import interfaces.NotificationChannel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Politica que DeliveryEngine aplica solo a las promociones: las alertas y los recordatorios
+// nunca se descartan. Una promocion repetida al mismo destinatario dentro de la ventana se
+// fusiona con la anterior; el resto pasa por el balde del destinatario y el de cada canal.
+public class PromotionThrottle {
+
+    private final double recipientRate;
+    private final int recipientBurst;
+    private final long coalesceWindowNanos;
+    private final long sweepIntervalNanos;
+    private final LongSupplier ticker;
+    private final Map<NotificationChannel, TokenBucket> channelBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> recipientBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Long> recentPromotions = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+
+    public PromotionThrottle(double recipientRatePerSecond, int recipientBurst, long coalesceWindow, TimeUnit unit) {
+        this(recipientRatePerSecond, recipientBurst, coalesceWindow, unit, System::nanoTime);
+    }
+
+    PromotionThrottle(double recipientRatePerSecond, int recipientBurst, long coalesceWindow, TimeUnit unit,
+                      LongSupplier ticker) {
+        if (recipientRatePerSecond <= 0 || recipientBurst <= 0) {
+            throw new IllegalArgumentException("La tasa y la rafaga por destinatario deben ser mayores a 0");
+        }
+        this.recipientRate = recipientRatePerSecond;
+        this.recipientBurst = recipientBurst;
+        this.coalesceWindowNanos = unit.toNanos(coalesceWindow);
+        this.sweepIntervalNanos = Math.max(coalesceWindowNanos, TimeUnit.SECONDS.toNanos(1));
+        this.ticker = ticker;
+        this.lastSweep = new AtomicLong(ticker.getAsLong());
+    }
+
+    public PromotionThrottle limitChannel(NotificationChannel channel, double ratePerSecond, int burst) {
+        channelBuckets.put(channel, new TokenBucket(ratePerSecond, burst, ticker));
+        return this;
+    }
+
+    // true si ya se envio la misma promocion a este destinatario dentro de la ventana. Solo consulta:
+    // la promocion se anota con remember() cuando efectivamente se encolo.
+    boolean coalesce(String recipient, String content) {
+        if (coalesceWindowNanos == 0) {
+            return false;
+        }
+        Long expiresAt = recentPromotions.get(key(recipient, content));
+        return expiresAt != null && expiresAt - ticker.getAsLong() > 0;
+    }
+
+    // Anota una promocion admitida; las repetidas dentro de la ventana se fusionan con esta.
+    // Dos duplicados concurrentes pueden pasar ambos por coalesce antes de anotarse: es un envio de mas,
+    // nunca una promocion descartada sin haberse enviado.
+    void remember(String recipient, String content) {
+        if (coalesceWindowNanos > 0) {
+            recentPromotions.put(key(recipient, content), ticker.getAsLong() + coalesceWindowNanos);
+        }
+    }
+
+    boolean allowRecipient(String recipient) {
+        sweep(ticker.getAsLong());
+        while (true) {
+            TokenBucket bucket = recipientBuckets.get(recipient);
+            if (bucket == null) {
+                bucket = recipientBuckets.computeIfAbsent(recipient,
+                        key -> new TokenBucket(recipientRate, recipientBurst, ticker));
+            }
+            if (bucket.tryAcquire()) {
+                return true;
+            }
+            if (!bucket.isRetired()) {
+                return false;
+            }
+            // El sweep retiro el balde entre el get y el intento: se reintenta con el vigente.
+            recipientBuckets.remove(recipient, bucket);
+        }
+    }
+
+    boolean allowChannel(NotificationChannel channel) {
+        TokenBucket bucket = channelBuckets.get(channel);
+        return bucket == null || bucket.tryAcquire();
+    }
+
+    int trackedRecipients() {
+        return recipientBuckets.size();
+    }
+
+    // Limpia como mucho una vez por ventana (o por segundo) para que los mapas no crezcan con la rafaga.
+    // Un balde solo se quita si se pudo retirar estando lleno: si otro hilo toma una ficha en el medio,
+    // retire() falla y el balde se queda con su estado.
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if (now - last < sweepIntervalNanos || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        recentPromotions.values().removeIf(expiresAt -> expiresAt - now <= 0);
+        for (Map.Entry<String, TokenBucket> entry : recipientBuckets.entrySet()) {
+            TokenBucket bucket = entry.getValue();
+            if (bucket.retire(now)) {
+                recipientBuckets.remove(entry.getKey(), bucket);
+            }
+        }
+    }
+
+    private static String key(String recipient, String content) {
+        return recipient + '\u0000' + content;
+    }
+}
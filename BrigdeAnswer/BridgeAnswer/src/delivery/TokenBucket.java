@@ -0,0 +1,72 @@
+package delivery;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Token bucket sin locks: en lugar de contar fichas guarda el instante en que el balde vuelve a
+// estar lleno. Tomar una ficha es correr ese instante un intervalo hacia adelante con un CAS.
+public class TokenBucket {
+
+    // Marca de un balde que PromotionThrottle saco de su mapa: ya no entrega fichas.
+    private static final long RETIRED = Long.MAX_VALUE;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier ticker;
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(double ratePerSecond, int capacity) {
+        this(ratePerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, int capacity, LongSupplier ticker) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("La tasa debe ser mayor a 0");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor a 0");
+        }
+        this.intervalNanos = Math.max(1, (long) (1e9 / ratePerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.ticker = ticker;
+    }
+
+    public boolean tryAcquire() {
+        long now = ticker.getAsLong();
+        while (true) {
+            long current = fullAt.get();
+            if (current == RETIRED) {
+                return false;
+            }
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // Un balde lleno se comporta igual que uno nuevo, asi que se puede descartar. El retiro es un CAS
+    // sobre el mismo valor que lee tryAcquire: o gana la ficha o gana el retiro, nunca ambos.
+    boolean retire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            if (current == RETIRED) {
+                return true;
+            }
+            if (current != Long.MIN_VALUE && current - now > 0) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, RETIRED)) {
+                return true;
+            }
+        }
+    }
+
+    boolean isRetired() {
+        return fullAt.get() == RETIRED;
+    }
+}
@@ -1,2 +1,10 @@
-package implementations;public class EmailChannel {
+package implementations;
+
+import interfaces.NotificationChannel;
+
+public class EmailChannel implements NotificationChannel {
+    @Override
+    public void sendNotification(String recipient, String message) {
+        System.out.println("Enviando email a " + recipient + ": " + message);
+    }
 }
@@ -1,2 +1,10 @@
-package implementations;public class PushChannel {
+package implementations;
+
+import interfaces.NotificationChannel;
+
+public class PushChannel implements NotificationChannel {
+    @Override
+    public void sendNotification(String recipient, String message) {
+        System.out.println("Enviando push a " + recipient + ": " + message);
+    }
 }
@@ -1,2 +1,10 @@
-package implementations;public class SmsChannel {
+package implementations;
+
+import interfaces.NotificationChannel;
+
+public class SmsChannel implements NotificationChannel {
+    @Override
+    public void sendNotification(String recipient, String message) {
+        System.out.println("Enviando SMS a " + recipient + ": " + message);
+    }
 }
@@ -1,4 +1,12 @@
 package interfaces;
 
 public interface NotificationChannel {
+
+    String BROADCAST = "todos";
+
+    void sendNotification(String recipient, String message);
+
+    default void sendNotification(String message) {
+        sendNotification(BROADCAST, message);
+    }
 }
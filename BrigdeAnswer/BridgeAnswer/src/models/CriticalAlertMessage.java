@@ -1,2 +1,20 @@
-package models;public class CriticalAlertMessage {
+package models;
+
+import interfaces.NotificationChannel;
+
+public class CriticalAlertMessage extends Message {
+
+    public CriticalAlertMessage(NotificationChannel... channels) {
+        super(channels);
+    }
+
+    @Override
+    public Priority getPriority() {
+        return Priority.CRITICAL;
+    }
+
+    @Override
+    public String format(String content) {
+        return "[ALERTA CRITICA] " + content;
+    }
 }
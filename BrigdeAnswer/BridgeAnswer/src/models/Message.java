@@ -1,4 +1,35 @@
 package models;
 
-public class Message {
+import interfaces.NotificationChannel;
+
+import java.util.List;
+
+public abstract class Message {
+    protected final List<NotificationChannel> channels;
+
+    protected Message(NotificationChannel... channels) {
+        if (channels.length == 0) {
+            throw new IllegalArgumentException("El mensaje necesita al menos un canal");
+        }
+        this.channels = List.of(channels);
+    }
+
+    public List<NotificationChannel> getChannels() {
+        return channels;
+    }
+
+    public abstract Priority getPriority();
+
+    public abstract String format(String content);
+
+    public void sendMessage(String content) {
+        sendMessage(NotificationChannel.BROADCAST, content);
+    }
+
+    public void sendMessage(String recipient, String content) {
+        String formatted = format(content);
+        for (NotificationChannel channel : channels) {
+            channel.sendNotification(recipient, formatted);
+        }
+    }
 }
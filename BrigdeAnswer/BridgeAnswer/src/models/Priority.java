@@ -0,0 +1,8 @@
+package models;
+
+// El orden de declaracion es el orden de entrega: CRITICAL sale antes que PROMOTION.
+public enum Priority {
+    CRITICAL,
+    REMINDER,
+    PROMOTION
+}
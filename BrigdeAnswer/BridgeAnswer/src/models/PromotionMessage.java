@@ -1,2 +1,20 @@
-package models;public class PromotionMessage {
+package models;
+
+import interfaces.NotificationChannel;
+
+public class PromotionMessage extends Message {
+
+    public PromotionMessage(NotificationChannel... channels) {
+        super(channels);
+    }
+
+    @Override
+    public Priority getPriority() {
+        return Priority.PROMOTION;
+    }
+
+    @Override
+    public String format(String content) {
+        return "[Promocion] " + content;
+    }
 }
@@ -1,2 +1,20 @@
-package models;public class ReminderMessage {
+package models;
+
+import interfaces.NotificationChannel;
+
+public class ReminderMessage extends Message {
+
+    public ReminderMessage(NotificationChannel... channels) {
+        super(channels);
+    }
+
+    @Override
+    public Priority getPriority() {
+        return Priority.REMINDER;
+    }
+
+    @Override
+    public String format(String content) {
+        return "[Recordatorio] " + content;
+    }
 }
@@ -1,16 +1,33 @@
+import models.OrderStatus;
+import subsystems.Inventory;
+import subsystems.Notification;
+import subsystems.Payment;
+import subsystems.Shipping;
 import utils.OrderFacade;
+import utils.SubsystemTimeouts;
+
+import java.util.concurrent.Executors;
 
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
 public class Main {
     public static void main(String[] args) {
 
-        OrderFacade orderFacade = new OrderFacade();
-
         String productId = "P12345";
         String custumerId = "C657";
         double amount = 100.00;
 
+        Inventory inventory = new Inventory();
+        inventory.addStock(productId, 2);
+        OrderFacade orderFacade = new OrderFacade(inventory, new Payment(), new Shipping(), new Notification(),
+                Executors.newVirtualThreadPerTaskExecutor(), SubsystemTimeouts.DEFAULTS);
+
+        orderFacade.placeOrder(productId,custumerId,amount);
+
+        OrderStatus status = orderFacade.placeOrderAsync(productId, custumerId, amount).join();
+        System.out.println("Estado de la orden asincronica: " + status);
+
+        // Ya no queda stock: la tercera orden no se reserva
         orderFacade.placeOrder(productId,custumerId,amount);
     }
 }
\ No newline at end of file
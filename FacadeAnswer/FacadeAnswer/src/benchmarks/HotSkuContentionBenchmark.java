@@ -0,0 +1,99 @@
+package benchmarks;
+
+import subsystems.Inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// java benchmarks.HotSkuContentionBenchmark [hilos] [stock del producto caliente] [productos]
+public class HotSkuContentionBenchmark {
+
+    // Referencia: los mismos contadores protegidos con synchronized.
+    static class SynchronizedStock {
+        private long available;
+        private long reserved;
+
+        synchronized boolean reserve() {
+            if (available == 0) {
+                return false;
+            }
+            available--;
+            reserved++;
+            return true;
+        }
+
+        synchronized void commit() {
+            reserved--;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        long hotStock = args.length > 1 ? Long.parseLong(args[1]) : 5_000_000;
+        int products = args.length > 2 ? Integer.parseInt(args[2]) : 2_000_000;
+
+        Inventory inventory = new Inventory();
+        inventory.addStock("HOT", hotStock);
+        LongAdder sold = new LongAdder();
+        double seconds = race(threads, () -> {
+            while (inventory.reserve("HOT", 1)) {
+                inventory.commit("HOT", 1);
+                sold.increment();
+            }
+        });
+        System.out.printf("Inventory (CAS): %d hilos, %.1f M reservas/s, vendidas %d de %d, disponibles %d, reservadas %d%n",
+                threads, hotStock / seconds / 1e6, sold.sum(), hotStock,
+                inventory.available("HOT"), inventory.reserved("HOT"));
+        System.out.println(sold.sum() == hotStock && inventory.available("HOT") == 0
+                ? "OK: no hubo sobreventa"
+                : "ERROR: las cantidades no cierran");
+
+        SynchronizedStock baseline = new SynchronizedStock();
+        baseline.available = hotStock;
+        LongAdder baselineSold = new LongAdder();
+        seconds = race(threads, () -> {
+            while (baseline.reserve()) {
+                baseline.commit();
+                baselineSold.increment();
+            }
+        });
+        System.out.printf("synchronized:    %d hilos, %.1f M reservas/s%n", threads, hotStock / seconds / 1e6);
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        Inventory catalog = new Inventory();
+        for (int i = 0; i < products; i++) {
+            catalog.addStock("SKU-" + i, 100);
+        }
+        System.gc();
+        long bytes = runtime.totalMemory() - runtime.freeMemory() - before;
+        int operationsPerThread = 1_000_000;
+        seconds = race(threads, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < operationsPerThread; i++) {
+                String sku = "SKU-" + random.nextInt(products);
+                if (catalog.reserve(sku, 1)) {
+                    catalog.release(sku, 1);
+                }
+            }
+        });
+        System.out.printf("%d productos: ~%d bytes por producto, %.1f M reserva+release/s%n",
+                products, bytes / products, (double) threads * operationsPerThread / seconds / 1e6);
+        System.out.println(catalog.stats());
+    }
+
+    private static double race(int threads, Runnable work) throws InterruptedException {
+        List<Thread> workers = new ArrayList<>(threads);
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            workers.add(Thread.ofPlatform().start(work));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+}
@@ -0,0 +1,100 @@
+package benchmarks;
+
+import models.OrderStatus;
+import subsystems.Inventory;
+import subsystems.Notification;
+import subsystems.Payment;
+import subsystems.Shipping;
+import utils.OrderFacade;
+import utils.SubsystemTimeouts;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// java benchmarks.OrderLatencyBenchmark [ordenes]
+// Subsistemas simulados: inventario 5 ms, pago 20 ms, envio 15 ms, notificacion 10 ms.
+public class OrderLatencyBenchmark {
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class SlowInventory extends Inventory {
+        @Override
+        public boolean reserve(String productId, long quantity) {
+            pause(5);
+            return super.reserve(productId, quantity);
+        }
+    }
+
+    static class SlowPayment extends Payment {
+        @Override
+        public void processPayment(String customerId, double amount) {
+            pause(20);
+        }
+    }
+
+    static class SlowShipping extends Shipping {
+        @Override
+        public void processingShipping(String productId, String customerId) {
+            pause(15);
+        }
+    }
+
+    static class SlowNotification extends Notification {
+        @Override
+        public void sendOrderConfirmation(String customerId) {
+            pause(10);
+        }
+    }
+
+    public static void main(String[] args) {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            SlowInventory inventory = new SlowInventory();
+            for (int i = 0; i < Math.max(orders, 20); i++) {
+                inventory.addStock("P" + i, 3);
+            }
+            OrderFacade facade = new OrderFacade(inventory, new SlowPayment(), new SlowShipping(),
+                    new SlowNotification(), executor, SubsystemTimeouts.DEFAULTS);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < 20; i++) {
+                facade.placeOrder("P" + i, "C" + i, 100);
+            }
+            double sequentialMillis = (System.nanoTime() - start) / 1e6 / 20;
+
+            start = System.nanoTime();
+            for (int i = 0; i < 20; i++) {
+                facade.placeOrderAsync("P" + i, "C" + i, 100).join();
+            }
+            double asyncMillis = (System.nanoTime() - start) / 1e6 / 20;
+
+            start = System.nanoTime();
+            List<CompletableFuture<OrderStatus>> pending = new ArrayList<>(orders);
+            for (int i = 0; i < orders; i++) {
+                pending.add(facade.placeOrderAsync("P" + i, "C" + i, 100));
+            }
+            Map<OrderStatus, Integer> outcomes = new EnumMap<>(OrderStatus.class);
+            for (CompletableFuture<OrderStatus> order : pending) {
+                outcomes.merge(order.join(), 1, Integer::sum);
+            }
+            double concurrentMillis = (System.nanoTime() - start) / 1e6;
+
+            System.out.printf("secuencial:  %.1f ms por orden%n", sequentialMillis);
+            System.out.printf("asincronico: %.1f ms por orden%n", asyncMillis);
+            System.out.printf("%d ordenes concurrentes en %.1f ms (secuencial seria ~%.0f ms): %s%n",
+                    orders, concurrentMillis, sequentialMillis * orders, outcomes);
+        }
+    }
+}
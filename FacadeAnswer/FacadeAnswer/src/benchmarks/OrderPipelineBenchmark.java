@@ -0,0 +1,86 @@
+package benchmarks;
+
+import models.Order;
+import models.OrderStatus;
+import models.PipelineSummary;
+import pipeline.OrderPipeline;
+import subsystems.Inventory;
+import subsystems.Payment;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// java benchmarks.OrderPipelineBenchmark [ordenes] [tamanio de lote] [workers de pago]
+// Genera un archivo de ordenes de venta flash (10.000 productos, el 10% concentra la mitad de los
+// pedidos) y lo procesa con un Payment simulado que tarda 1 ms por llamada remota.
+public class OrderPipelineBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+
+    static class RemotePayment extends Payment {
+        @Override
+        public void processPayment(String customerId, double amount) {
+        }
+
+        @Override
+        public List<OrderStatus> processPayments(List<Order> orders) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.nCopies(orders.size(), OrderStatus.PLACED);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        Path file = Files.createTempFile("orders", ".csv");
+        try {
+            SplittableRandom random = new SplittableRandom(42);
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                for (int i = 0; i < orders; i++) {
+                    int product = random.nextInt(2) == 0 ? random.nextInt(PRODUCTS / 10) : random.nextInt(PRODUCTS);
+                    writer.write(i + ",SKU-" + product + ",C" + random.nextInt(100_000) + "," + (10 + random.nextInt(90)));
+                    writer.newLine();
+                }
+            }
+            Inventory inventory = new Inventory();
+            for (int i = 0; i < PRODUCTS; i++) {
+                inventory.addStock("SKU-" + i, 100);
+            }
+
+            LongAdder outcomes = new LongAdder();
+            OrderPipeline pipeline = new OrderPipeline(inventory, new RemotePayment(), 8_192, batchSize, workers);
+            PipelineSummary summary = pipeline.process(file, outcome -> outcomes.increment());
+
+            System.out.printf("%d ordenes (%d MB) con lotes de %d y %d workers de pago%n",
+                    orders, Files.size(file) >> 20, batchSize, workers);
+            System.out.println(summary);
+            System.out.printf("%.0f ordenes/s%n", summary.ordersPerSecond());
+            long sold = (long) PRODUCTS * 100 - totalAvailable(inventory);
+            System.out.println(outcomes.sum() == orders && sold == summary.placed()
+                    ? "OK: cada orden tiene resultado y el stock vendido coincide con las ordenes cobradas"
+                    : "ERROR: resultados " + outcomes.sum() + ", vendidos " + sold);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long totalAvailable(Inventory inventory) {
+        long total = 0;
+        for (int i = 0; i < PRODUCTS; i++) {
+            total += inventory.available("SKU-" + i);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,4 @@
+package models;
+
+public record InventoryStats(int products, long reservations, long rejections, long commits, long releases) {
+}
@@ -0,0 +1,13 @@
+package models;
+
+public record Order(long orderId, String productId, String customerId, double amount) {
+
+    // Formato de linea: orderId,productId,customerId,amount
+    public static Order parse(String line) {
+        String[] fields = line.split(",", 4);
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Linea de orden invalida: " + line);
+        }
+        return new Order(Long.parseLong(fields[0]), fields[1], fields[2], Double.parseDouble(fields[3]));
+    }
+}
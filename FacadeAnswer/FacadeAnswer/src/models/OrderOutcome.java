@@ -0,0 +1,4 @@
+package models;
+
+public record OrderOutcome(long orderId, OrderStatus status) {
+}
@@ -0,0 +1,11 @@
+package models;
+
+// PAYMENT_PENDING: el cobro no respondio a tiempo pero sigue corriendo. La orden puede terminar cobrada
+// y enviada, asi que no debe reintentarse: hay que conciliarla con el pago del cliente.
+public enum OrderStatus {
+    PLACED,
+    UNAVAILABLE,
+    TIMED_OUT,
+    PAYMENT_PENDING,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package models;
+
+public record PipelineSummary(long orders, long placed, long unavailable, long failed, double seconds) {
+
+    public double ordersPerSecond() {
+        return seconds == 0 ? 0 : orders / seconds;
+    }
+}
@@ -0,0 +1,281 @@
+package pipeline;
+
+import models.Order;
+import models.OrderOutcome;
+import models.OrderStatus;
+import models.PipelineSummary;
+import subsystems.Inventory;
+import subsystems.Payment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Procesa ordenes en masa en tres etapas unidas por colas acotadas:
+//   lectura (hilo que llama) -> reserva agrupada por producto (1 hilo) -> cobro por lotes (N hilos).
+// Si una etapa se atrasa su cola se llena y la anterior se bloquea, asi la memoria no depende del
+// tamanio del archivo. El consumer de resultados se llama desde varios hilos y debe ser thread-safe;
+// si lanza una excepcion (o falla una etapa) la corrida se cancela y process() la propaga.
+public class OrderPipeline {
+
+    private static final Order END = new Order(-1, "", "", 0);
+    private static final List<Order> END_BATCH = new ArrayList<>();
+    private static final long POLL_MILLIS = 50;
+
+    private final Inventory inventory;
+    private final Payment payment;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int paymentWorkers;
+
+    public OrderPipeline(Inventory inventory, Payment payment, int queueCapacity, int batchSize, int paymentWorkers) {
+        if (queueCapacity <= 0 || batchSize <= 0 || paymentWorkers <= 0) {
+            throw new IllegalArgumentException("La capacidad, el lote y los workers deben ser mayores a 0");
+        }
+        this.inventory = inventory;
+        this.payment = payment;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.paymentWorkers = paymentWorkers;
+    }
+
+    public OrderPipeline(Inventory inventory, Payment payment) {
+        this(inventory, payment, 8_192, 256, 4);
+    }
+
+    // Una linea por orden con el formato de Order.parse; las lineas vacias se ignoran.
+    public PipelineSummary process(Path file, Consumer<OrderOutcome> outcomes) throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            return process(lines.filter(line -> !line.isBlank()).map(Order::parse), outcomes);
+        }
+    }
+
+    public PipelineSummary process(Stream<Order> orders, Consumer<OrderOutcome> outcomes) {
+        Run run = new Run(new ArrayBlockingQueue<>(queueCapacity),
+                new ArrayBlockingQueue<>(Math.max(paymentWorkers, queueCapacity / batchSize)), new Counters(outcomes));
+
+        long start = System.nanoTime();
+        List<Thread> stages = new ArrayList<>();
+        stages.add(Thread.ofPlatform().name("pipeline-reserve").start(() -> reserveStage(run)));
+        for (int i = 0; i < paymentWorkers; i++) {
+            stages.add(Thread.ofPlatform().name("pipeline-payment-" + i).start(() -> paymentStage(run)));
+        }
+        RuntimeException readError = null;
+        try {
+            orders.forEach(order -> {
+                run.counters.read.increment();
+                put(run, run.incoming, order);
+            });
+            put(run, run.incoming, END);
+        } catch (RuntimeException e) {
+            readError = e;
+            run.fail(e);
+        } finally {
+            for (Thread stage : stages) {
+                try {
+                    stage.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    run.fail(e);
+                    throw new IllegalStateException("El pipeline fue interrumpido", e);
+                }
+            }
+        }
+        Throwable failure = run.failure.get();
+        if (failure != null) {
+            // Los lotes que quedaron reservados sin llegar al cobro devuelven su stock.
+            List<Order> batch;
+            while ((batch = run.reserved.poll()) != null) {
+                if (batch != END_BATCH) {
+                    releaseAll(batch);
+                }
+            }
+            if (failure == readError) {
+                throw readError;
+            }
+            throw new IllegalStateException("Fallo una etapa del pipeline", failure);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new PipelineSummary(run.counters.read.sum(), run.counters.placed.sum(), run.counters.unavailable.sum(),
+                run.counters.failed.sum(), seconds);
+    }
+
+    // Cualquier excepcion de una etapa (incluido el consumer de resultados) cancela la corrida:
+    // put/take de las demas etapas y del lector la ven y cortan en vez de quedar bloqueados.
+    private void reserveStage(Run run) {
+        List<Order> paid = new ArrayList<>(batchSize);
+        try {
+            List<Order> window = new ArrayList<>(batchSize);
+            Map<String, List<Order>> byProduct = new LinkedHashMap<>();
+            boolean done = false;
+            while (!done) {
+                window.add(take(run, run.incoming));
+                run.incoming.drainTo(window, batchSize - 1);
+                // END siempre es lo ultimo que entra a la cola.
+                if (window.get(window.size() - 1) == END) {
+                    window.remove(window.size() - 1);
+                    done = true;
+                }
+                for (Order order : window) {
+                    byProduct.computeIfAbsent(order.productId(), id -> new ArrayList<>()).add(order);
+                }
+                paid = new ArrayList<>(window.size());
+                for (Map.Entry<String, List<Order>> group : byProduct.entrySet()) {
+                    List<Order> orders = group.getValue();
+                    int granted = (int) inventory.reserveUpTo(group.getKey(), orders.size());
+                    paid.addAll(orders.subList(0, granted));
+                    for (Order order : orders.subList(granted, orders.size())) {
+                        run.counters.report(order, OrderStatus.UNAVAILABLE);
+                    }
+                }
+                if (!paid.isEmpty()) {
+                    put(run, run.reserved, paid);
+                }
+                paid = List.of();
+                window.clear();
+                byProduct.clear();
+            }
+            for (int i = 0; i < paymentWorkers; i++) {
+                put(run, run.reserved, END_BATCH);
+            }
+        } catch (RuntimeException e) {
+            run.fail(e);
+            releaseAll(paid);
+        }
+    }
+
+    private void paymentStage(Run run) {
+        try {
+            while (true) {
+                List<Order> batch = take(run, run.reserved);
+                if (batch == END_BATCH) {
+                    return;
+                }
+                settle(batch, charge(batch), run.counters);
+            }
+        } catch (RuntimeException e) {
+            run.fail(e);
+        }
+    }
+
+    // Estado de cada orden del lote; si el cobro del lote lanza, ninguna se cobro.
+    private List<OrderStatus> charge(List<Order> batch) {
+        List<OrderStatus> statuses;
+        try {
+            statuses = payment.processPayments(batch);
+        } catch (RuntimeException e) {
+            return Collections.nCopies(batch.size(), OrderStatus.FAILED);
+        }
+        if (statuses.size() != batch.size()) {
+            // No se sabe que ordenes se cobraron: el stock queda reservado y la corrida falla.
+            throw new IllegalStateException("El pago devolvio " + statuses.size() + " estados para "
+                    + batch.size() + " ordenes");
+        }
+        return statuses;
+    }
+
+    // Confirma el stock de las ordenes cobradas y devuelve solo el de las que fallaron.
+    private void settle(List<Order> batch, List<OrderStatus> statuses, Counters counters) {
+        Map<String, Long> charged = new HashMap<>();
+        Map<String, Long> refused = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Map<String, Long> target = statuses.get(i) == OrderStatus.PLACED ? charged : refused;
+            target.merge(batch.get(i).productId(), 1L, Long::sum);
+        }
+        charged.forEach(inventory::commit);
+        refused.forEach(inventory::release);
+        for (int i = 0; i < batch.size(); i++) {
+            counters.report(batch.get(i), statuses.get(i) == OrderStatus.PLACED ? OrderStatus.PLACED : OrderStatus.FAILED);
+        }
+    }
+
+    private void releaseAll(List<Order> orders) {
+        Map<String, Long> quantities = new HashMap<>();
+        for (Order order : orders) {
+            quantities.merge(order.productId(), 1L, Long::sum);
+        }
+        quantities.forEach(inventory::release);
+    }
+
+    private static <T> void put(Run run, BlockingQueue<T> queue, T item) {
+        try {
+            do {
+                run.checkAlive();
+            } while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("El pipeline fue interrumpido", e);
+        }
+    }
+
+    private static <T> T take(Run run, BlockingQueue<T> queue) {
+        try {
+            T item;
+            do {
+                run.checkAlive();
+            } while ((item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null);
+            return item;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("El pipeline fue interrumpido", e);
+        }
+    }
+
+    private static final class Run {
+        private final BlockingQueue<Order> incoming;
+        private final BlockingQueue<List<Order>> reserved;
+        private final Counters counters;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Run(BlockingQueue<Order> incoming, BlockingQueue<List<Order>> reserved, Counters counters) {
+            this.incoming = incoming;
+            this.reserved = reserved;
+            this.counters = counters;
+        }
+
+        // Gana el primer error; los que genera la propia cancelacion se descartan.
+        void fail(Throwable error) {
+            failure.compareAndSet(null, error);
+        }
+
+        void checkAlive() {
+            if (failure.get() != null) {
+                throw new IllegalStateException("El pipeline se cancelo por un error en otra etapa");
+            }
+        }
+    }
+
+    private static final class Counters {
+        private final Consumer<OrderOutcome> outcomes;
+        private final LongAdder read = new LongAdder();
+        private final LongAdder placed = new LongAdder();
+        private final LongAdder unavailable = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        Counters(Consumer<OrderOutcome> outcomes) {
+            this.outcomes = outcomes;
+        }
+
+        void report(Order order, OrderStatus status) {
+            switch (status) {
+                case PLACED -> placed.increment();
+                case UNAVAILABLE -> unavailable.increment();
+                default -> failed.increment();
+            }
+            outcomes.accept(new OrderOutcome(order.orderId(), status));
+        }
+    }
+}
@@ -1,11 +1,129 @@
 package subsystems;
 
+import models.InventoryStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// El stock de cada producto es un contador atomico: reservar es un CAS que solo descuenta si
+// alcanza, asi que nunca se vende de mas aunque muchas ordenes pidan el mismo producto a la vez.
+// Lo reservado se confirma (commit) cuando el pago sale bien o se devuelve (release) si falla.
 public class Inventory {
 
+    private final Map<String, Stock> stock = new ConcurrentHashMap<>();
+    private final LongAdder reservations = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+
+    public void addStock(String productId, long quantity) {
+        requirePositive(quantity);
+        stock.computeIfAbsent(productId, id -> new Stock()).available.addAndGet(quantity);
+    }
+
     public boolean checkProductAvailability(String productId) {
 
         System.out.println("Chequeando disponibilidad del producto ID: " + productId);
-        return true;
+        return available(productId) > 0;
+
+    }
+
+    public boolean reserve(String productId, long quantity) {
+        requirePositive(quantity);
+        Stock product = stock.get(productId);
+        if (product != null) {
+            long current = product.available.get();
+            while (current >= quantity) {
+                long witness = product.available.compareAndExchange(current, current - quantity);
+                if (witness == current) {
+                    product.reserved.addAndGet(quantity);
+                    reservations.increment();
+                    return true;
+                }
+                current = witness;
+            }
+        }
+        rejections.increment();
+        return false;
+    }
+
+    // Reserva hasta maxQuantity unidades y devuelve cuantas se pudieron tomar (0 si no hay stock).
+    public long reserveUpTo(String productId, long maxQuantity) {
+        requirePositive(maxQuantity);
+        Stock product = stock.get(productId);
+        if (product != null) {
+            long current = product.available.get();
+            while (current > 0) {
+                long granted = Math.min(current, maxQuantity);
+                long witness = product.available.compareAndExchange(current, current - granted);
+                if (witness == current) {
+                    product.reserved.addAndGet(granted);
+                    reservations.increment();
+                    return granted;
+                }
+                current = witness;
+            }
+        }
+        rejections.increment();
+        return 0;
+    }
+
+    public void commit(String productId, long quantity) {
+        takeReserved(productId, quantity);
+        commits.increment();
+    }
+
+    public void release(String productId, long quantity) {
+        takeReserved(productId, quantity).available.addAndGet(quantity);
+        releases.increment();
+    }
+
+    public long available(String productId) {
+        Stock product = stock.get(productId);
+        return product == null ? 0 : product.available.get();
+    }
+
+    public long reserved(String productId) {
+        Stock product = stock.get(productId);
+        return product == null ? 0 : product.reserved.get();
+    }
+
+    public InventoryStats stats() {
+        return new InventoryStats(stock.size(), reservations.sum(), rejections.sum(), commits.sum(), releases.sum());
+    }
+
+    // Descuenta de lo reservado; confirmar o devolver mas de lo reservado es un error del llamador
+    // (por ejemplo un commit y un release de la misma reserva) y no debe dejar el contador negativo.
+    private Stock takeReserved(String productId, long quantity) {
+        requirePositive(quantity);
+        Stock product = stock.get(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("El producto " + productId + " no existe");
+        }
+        long current = product.reserved.get();
+        while (true) {
+            if (current < quantity) {
+                throw new IllegalStateException("El producto " + productId + " tiene " + current
+                        + " unidades reservadas y se pidieron " + quantity);
+            }
+            long witness = product.reserved.compareAndExchange(current, current - quantity);
+            if (witness == current) {
+                return product;
+            }
+            current = witness;
+        }
+    }
+
+    private static void requirePositive(long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("La cantidad debe ser mayor a 0");
+        }
+    }
 
+    private static final class Stock {
+        private final AtomicLong available = new AtomicLong();
+        private final AtomicLong reserved = new AtomicLong();
     }
 }
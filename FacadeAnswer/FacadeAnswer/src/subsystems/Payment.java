@@ -1,9 +1,30 @@
 package subsystems;
 
+import models.Order;
+import models.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class Payment {
 
     public void processPayment(String customerId, double amount){
 
         System.out.println("Procensado el pago para el cliente ID: " + customerId + "por el monto de $: " + amount);
     }
+
+    // Cobra un lote de ordenes en una sola llamada y devuelve el estado de cada una en el mismo orden:
+    // PLACED si se cobro y FAILED si no. Si lanza una excepcion, no se cobro ninguna orden del lote.
+    public List<OrderStatus> processPayments(List<Order> orders){
+        List<OrderStatus> statuses = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            try {
+                processPayment(order.customerId(), order.amount());
+                statuses.add(OrderStatus.PLACED);
+            } catch (RuntimeException e) {
+                statuses.add(OrderStatus.FAILED);
+            }
+        }
+        return statuses;
+    }
 }
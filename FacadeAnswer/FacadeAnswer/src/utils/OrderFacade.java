@@ -1,26 +1,57 @@
 package utils;
 
+import models.OrderOutcome;
+import models.OrderStatus;
+import models.PipelineSummary;
+import pipeline.OrderPipeline;
 import subsystems.Inventory;
 import subsystems.Notification;
 import subsystems.Payment;
 import subsystems.Shipping;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
 public class OrderFacade {
     private Inventory inventory;
     private Payment payment;
     private Shipping shipping;
     private Notification notification;
+    private Executor executor;
+    private SubsystemTimeouts timeouts;
 
     public OrderFacade() {
-        this.inventory = new Inventory();
-        this.payment = new Payment();
-        this.shipping = new Shipping();
-        this.notification = new Notification();
+        this(new Inventory(), new Payment(), new Shipping(), new Notification(),
+                Executors.newVirtualThreadPerTaskExecutor(), SubsystemTimeouts.DEFAULTS);
+    }
+
+    public OrderFacade(Inventory inventory, Payment payment, Shipping shipping, Notification notification,
+                       Executor executor, SubsystemTimeouts timeouts) {
+        this.inventory = inventory;
+        this.payment = payment;
+        this.shipping = shipping;
+        this.notification = notification;
+        this.executor = executor;
+        this.timeouts = timeouts;
     }
 
     public void placeOrder(String productId, String customerId, double amount){
-        if(inventory.checkProductAvailability(productId)){
-            payment.processPayment(customerId,amount);
+        if(inventory.reserve(productId, 1)){
+            try {
+                payment.processPayment(customerId,amount);
+            } catch (RuntimeException e) {
+                inventory.release(productId, 1);
+                throw e;
+            }
+            inventory.commit(productId, 1);
             shipping.processingShipping(productId,customerId);
             notification.sendOrderConfirmation(customerId);
             System.out.println("La orden fue realizada");
@@ -29,4 +60,90 @@ public class OrderFacade {
         }
     }
 
+    // Igual que placeOrder pero sin bloquear al que llama: el envio y la notificacion solo dependen
+    // del pago, asi que corren en paralelo. Cada subsistema tiene su propio timeout; al vencer, la
+    // orden termina en TIMED_OUT aunque la llamada al subsistema siga corriendo, salvo el pago: si el
+    // que vence es el del pago la orden termina en PAYMENT_PENDING.
+    public CompletableFuture<OrderStatus> placeOrderAsync(String productId, String customerId, double amount) {
+        return reserve(productId)
+                .thenCompose(available -> available
+                        ? placeAvailableOrder(productId, customerId, amount)
+                        : CompletableFuture.completedFuture(OrderStatus.UNAVAILABLE))
+                .exceptionally(OrderFacade::toStatus);
+    }
+
+    // El stock sigue al pago real y no a su timeout: mientras el cobro pueda seguir corriendo no se
+    // devuelve. Un pago que vence se informa PAYMENT_PENDING y no TIMED_OUT, porque el cliente todavia
+    // puede quedar cobrado: si el pago termina bien se confirma el stock y se completan el envio y la
+    // notificacion; si falla se devuelve el stock. Las dos salidas se informan para conciliar.
+    private CompletableFuture<OrderStatus> placeAvailableOrder(String productId, String customerId, double amount) {
+        CompletableFuture<Void> paying =
+                CompletableFuture.runAsync(() -> payment.processPayment(customerId, amount), executor);
+        paying.whenComplete((paid, error) -> {
+            if (error == null) {
+                inventory.commit(productId, 1);
+            } else {
+                inventory.release(productId, 1);
+            }
+        });
+        CompletableFuture<Void> timed = paying.copy().orTimeout(timeouts.payment().toNanos(), TimeUnit.NANOSECONDS);
+        return timed
+                .handle((paid, error) -> error)
+                .thenCompose(error -> {
+                    if (error == null) {
+                        return CompletableFuture.allOf(
+                                        run(() -> shipping.processingShipping(productId, customerId), timeouts.shipping()),
+                                        run(() -> notification.sendOrderConfirmation(customerId), timeouts.notification()))
+                                .thenApply(done -> OrderStatus.PLACED);
+                    }
+                    if (toStatus(error) != OrderStatus.TIMED_OUT) {
+                        return CompletableFuture.failedFuture(error);
+                    }
+                    paying.whenCompleteAsync((paid, late) -> settleLatePayment(productId, customerId, late), executor);
+                    return CompletableFuture.completedFuture(OrderStatus.PAYMENT_PENDING);
+                });
+    }
+
+    private void settleLatePayment(String productId, String customerId, Throwable error) {
+        if (error != null) {
+            System.out.println("El pago pendiente del cliente ID: " + customerId + " fallo; la orden no se realizo");
+            return;
+        }
+        System.out.println("El pago pendiente del cliente ID: " + customerId + " se confirmo; la orden fue realizada");
+        shipping.processingShipping(productId, customerId);
+        notification.sendOrderConfirmation(customerId);
+    }
+
+    // Carga masiva (por ejemplo una venta flash): reserva agrupada por producto y cobro por lotes.
+    // El envio y la notificacion quedan a cargo de quien consume los resultados.
+    public PipelineSummary placeOrders(Path ordersFile, Consumer<OrderOutcome> outcomes) throws IOException {
+        return new OrderPipeline(inventory, payment).process(ordersFile, outcomes);
+    }
+
+    // Si la reserva llega despues del timeout, se devuelve el stock para que no quede tomado.
+    private CompletableFuture<Boolean> reserve(String productId) {
+        CompletableFuture<Boolean> reservation =
+                CompletableFuture.supplyAsync(() -> inventory.reserve(productId, 1), executor);
+        CompletableFuture<Boolean> timed = reservation.copy()
+                .orTimeout(timeouts.inventory().toNanos(), TimeUnit.NANOSECONDS);
+        timed.exceptionally(error -> {
+            reservation.thenAccept(reserved -> {
+                if (reserved) {
+                    inventory.release(productId, 1);
+                }
+            });
+            return false;
+        });
+        return timed;
+    }
+
+    private CompletableFuture<Void> run(Runnable step, Duration timeout) {
+        return CompletableFuture.runAsync(step, executor).orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static OrderStatus toStatus(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof TimeoutException ? OrderStatus.TIMED_OUT : OrderStatus.FAILED;
+    }
+
 }
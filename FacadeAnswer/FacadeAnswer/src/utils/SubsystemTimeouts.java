@@ -0,0 +1,9 @@
+package utils;
+
+import java.time.Duration;
+
+public record SubsystemTimeouts(Duration inventory, Duration payment, Duration shipping, Duration notification) {
+
+    public static final SubsystemTimeouts DEFAULTS = new SubsystemTimeouts(
+            Duration.ofMillis(500), Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofSeconds(1));
+}
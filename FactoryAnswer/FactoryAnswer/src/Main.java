@@ -1,10 +1,18 @@
 import interfaces.Document;
+import models.FileBackedDocument;
+import models.TextDocument;
 import utils.DocumentFactory;
+import utils.DocumentPool;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
 
         try {
             Document document = DocumentFactory.createDocument("text");
@@ -23,6 +31,28 @@ public class Main {
             document.save();
             document.close();
 
+            // El segundo documento reutiliza la instancia que devolvio el primero al cerrarse
+            DocumentPool pool = new DocumentPool("Text", 4);
+            document = pool.acquire();
+            document.open();
+            document.close();
+            document = pool.acquire();
+            document.open();
+            document.close();
+            System.out.println("Documentos creados por el pool: " + pool.createdCount());
+
+            // Documento guardado en archivo: save() solo baja a disco las paginas editadas
+            Path file = Files.createTempFile("documento", ".txt");
+            TextDocument textDocument = new TextDocument();
+            textDocument.bind(file);
+            textDocument.open();
+            textDocument.resize(FileBackedDocument.PAGE_SIZE * 4);
+            textDocument.write(0, "Hola mundo".getBytes(StandardCharsets.UTF_8));
+            textDocument.save();
+            textDocument.close();
+            System.out.println("Contenido guardado: " + new String(Files.readAllBytes(file), 0, 10, StandardCharsets.UTF_8));
+            Files.delete(file);
+
         }catch ( IllegalArgumentException e) {
             System.out.println(e.getMessage());
 
@@ -0,0 +1,97 @@
+package benchmarks;
+
+import interfaces.Document;
+import models.ConversionSummary;
+import models.FileBackedDocument;
+import models.ManifestEntry;
+import pipeline.ConversionPipeline;
+import utils.DocumentFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// java benchmarks.ConversionScalingBenchmark [documentos] [tamanio en KB]
+// Genera un lote mixto de documentos (1% con errores a proposito) y lo convierte con 1, 2, 4...
+// hilos por etapa hasta el doble de los nucleos disponibles.
+public class ConversionScalingBenchmark {
+
+    private static final String[] TYPES = {"text", "calculo", "presentacion"};
+
+    // Los tipos reales imprimen en cada open/save/close; para medir se registran versiones mudas.
+    static class QuietDocument extends FileBackedDocument {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int documents = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int sizeKb = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        for (String type : TYPES) {
+            DocumentFactory.register(type, QuietDocument::new);
+        }
+
+        Path directory = Files.createTempDirectory("conversion");
+        try {
+            List<ManifestEntry> manifest = new ArrayList<>(documents);
+            byte[] content = new byte[sizeKb << 10];
+            for (int i = 0; i < documents; i++) {
+                Path path = directory.resolve("doc-" + i + ".bin");
+                if (i % 100 == 50) {
+                    manifest.add(new ManifestEntry("desconocido", path));
+                } else if (i % 100 == 99) {
+                    manifest.add(new ManifestEntry(TYPES[i % 3], directory.resolve("no-existe").resolve("doc-" + i)));
+                } else {
+                    content[0] = (byte) i;
+                    Files.write(path, content);
+                    manifest.add(new ManifestEntry(TYPES[i % 3], path));
+                }
+            }
+
+            int cores = Runtime.getRuntime().availableProcessors();
+            System.out.printf("%d documentos de %d KB, %d nucleos disponibles%n", documents, sizeKb, cores);
+            double baseline = 0;
+            for (int parallelism = 1; parallelism <= Math.max(4, cores * 2); parallelism *= 2) {
+                ConversionPipeline pipeline = new ConversionPipeline(parallelism, parallelism, parallelism,
+                        ConversionScalingBenchmark::invertFirstPage);
+                ConversionSummary summary = pipeline.process(manifest);
+                double rate = summary.documentsPerSecond();
+                baseline = baseline == 0 ? rate : baseline;
+                System.out.printf("%2d hilos por etapa: %8.0f docs/s (x%.2f), %d ok, %d fallidos%n",
+                        parallelism, rate, rate / baseline, summary.succeeded(), summary.failed());
+            }
+
+            ConversionSummary last = new ConversionPipeline(2, 2, 2, ConversionScalingBenchmark::invertFirstPage)
+                    .withProgress(documents / 4, progress -> System.out.printf("  progreso: %d de %d%n",
+                            progress.succeeded() + progress.failed(), progress.total()))
+                    .process(manifest);
+            System.out.println("ejemplo de falla aislada: " + last.failures().get(0));
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    // Transformacion de ejemplo: invierte los bytes de la primera pagina y suma el resto.
+    private static void invertFirstPage(Document document) {
+        FileBackedDocument file = (FileBackedDocument) document;
+        int length = (int) Math.min(FileBackedDocument.PAGE_SIZE, file.size());
+        byte[] page = file.read(0, length);
+        for (int i = 0; i < page.length; i++) {
+            page[i] = (byte) ~page[i];
+        }
+        file.write(0, page);
+        long checksum = 0;
+        for (byte value : file.read(0, (int) file.size())) {
+            checksum += value;
+        }
+        if (checksum == Long.MIN_VALUE) {
+            throw new IllegalStateException("checksum imposible");
+        }
+    }
+}
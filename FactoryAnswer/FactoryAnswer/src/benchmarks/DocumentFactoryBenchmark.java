@@ -0,0 +1,100 @@
+package benchmarks;
+
+import interfaces.Document;
+import models.PresentationDocument;
+import models.SpreadsheetDocument;
+import models.TextDocument;
+import utils.DocumentFactory;
+import utils.DocumentPool;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+// java benchmarks.DocumentFactoryBenchmark [operaciones]
+// Sin JMH en este proyecto: cada variante se calienta una ronda antes de medir y los bytes
+// asignados por operacion salen de com.sun.management.ThreadMXBean.
+public class DocumentFactoryBenchmark {
+
+    private static final String[] TYPES = {"Text", "CALCULO", "presentacion", "text"};
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // La factory anterior: toUpperCase y switch en cada llamada.
+    static Document switchFactory(String type) {
+        switch (type.toUpperCase()) {
+            case "TEXT":
+                return new TextDocument();
+            case "CALCULO":
+                return new SpreadsheetDocument();
+            case "PRESENTACION":
+                return new PresentationDocument();
+            default:
+                throw new IllegalArgumentException("Tipo de documento no reconocido");
+        }
+    }
+
+    static class QuietDocument implements Document {
+        private int edits;
+
+        // Solo vive en memoria.
+        @Override
+        public void bind(Path file) {
+        }
+
+        @Override
+        public void open() {
+            edits++;
+        }
+
+        @Override
+        public void save() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void reset() {
+            edits = 0;
+        }
+    }
+
+    interface Operation {
+        int run(int i);
+    }
+
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        DocumentFactory.register("silencioso", QuietDocument::new);
+        DocumentPool pool = new DocumentPool("silencioso", 64);
+
+        measure("switch + toUpperCase", operations, i -> switchFactory(TYPES[i & 3]).hashCode());
+        measure("registro", operations, i -> DocumentFactory.createDocument(TYPES[i & 3]).hashCode());
+        measure("registro (silencioso)", operations, i -> DocumentFactory.createDocument("Silencioso").hashCode());
+        measure("pool acquire + close", operations, i -> {
+            DocumentPool.PooledDocument document = pool.acquire();
+            document.open();
+            document.close();
+            return 1;
+        });
+        System.out.println("documentos creados por el pool: " + pool.createdCount());
+    }
+
+    private static void measure(String name, int operations, Operation operation) {
+        long sink = 0;
+        double rate = 0;
+        double bytesPerOperation = 0;
+        for (int round = 0; round < 2; round++) {
+            long bytes = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < operations; i++) {
+                sink += operation.run(i);
+            }
+            rate = operations / ((System.nanoTime() - start) / 1e9);
+            bytesPerOperation = (double) (THREADS.getCurrentThreadAllocatedBytes() - bytes) / operations;
+        }
+        System.out.printf("%-22s %6.1f M docs/s  %5.1f bytes/op  (sink %d)%n",
+                name, rate / 1e6, bytesPerOperation, sink & 1);
+    }
+}
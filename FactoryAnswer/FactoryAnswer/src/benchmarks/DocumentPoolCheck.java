@@ -0,0 +1,81 @@
+package benchmarks;
+
+import interfaces.Document;
+import utils.DocumentFactory;
+import utils.DocumentPool;
+
+import java.nio.file.Path;
+
+// Verifica que un prestamo devuelto al pool no pueda tocar el documento cuando se presta de nuevo.
+// java benchmarks.DocumentPoolCheck
+public class DocumentPoolCheck {
+
+    private static int failures;
+
+    static class TrackedDocument implements Document {
+        private boolean open;
+
+        // Solo vive en memoria.
+        @Override
+        public void bind(Path file) {
+        }
+
+        @Override
+        public void open() {
+            open = true;
+        }
+
+        @Override
+        public void save() {
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+
+    public static void main(String[] args) {
+        DocumentFactory.register("rastreado", TrackedDocument::new);
+        DocumentPool pool = new DocumentPool("rastreado", 4);
+
+        DocumentPool.PooledDocument stale = pool.acquire();
+        stale.open();
+        stale.close();
+        DocumentPool.PooledDocument current = pool.acquire();
+        current.open();
+        check("el segundo prestamo reutiliza el documento", current.unwrap() == stale.unwrap());
+
+        stale.close();
+        TrackedDocument document = (TrackedDocument) current.unwrap();
+        check("close() de un prestamo viejo no cierra el documento prestado", document.open);
+        check("close() de un prestamo viejo no lo devuelve al pool", pool.idleCount() == 0);
+        check("open() de un prestamo viejo se rechaza", rejects(stale::open));
+        check("save() de un prestamo viejo se rechaza", rejects(stale::save));
+
+        current.close();
+        check("el prestamo actual se devuelve una sola vez", pool.idleCount() == 1);
+        current.close();
+        check("un segundo close() del prestamo actual no lo duplica", pool.idleCount() == 1);
+
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean rejects(Runnable operation) {
+        try {
+            operation.run();
+            return false;
+        } catch (IllegalStateException e) {
+            return true;
+        }
+    }
+
+    private static void check(String description, boolean ok) {
+        System.out.println(description + (ok ? " -> ok" : " -> FALLA"));
+        if (!ok) {
+            failures++;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import models.SpreadsheetDocument;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// java benchmarks.DocumentSaveBenchmark [tamanios en MB...]
+// Para cada tamanio hace 10 ediciones chicas y mide cuanto tarda el guardado incremental, contra
+// reescribir el archivo entero como haria un guardado completo.
+public class DocumentSaveBenchmark {
+
+    private static final int ROUNDS = 15;
+    private static final int EDITS_PER_SAVE = 10;
+
+    public static void main(String[] args) throws IOException {
+        int[] sizesMb = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1, 16, 256, 1024};
+        SplittableRandom random = new SplittableRandom(7);
+        byte[] edit = new byte[64];
+
+        for (int sizeMb : sizesMb) {
+            long size = (long) sizeMb << 20;
+            Path file = Files.createTempFile("document", ".bin");
+            try {
+                try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+                    raw.setLength(size);
+                }
+                SpreadsheetDocument document = new SpreadsheetDocument();
+                document.bind(file);
+                document.open();
+                long[] incremental = new long[ROUNDS];
+                int pages = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    for (int i = 0; i < EDITS_PER_SAVE; i++) {
+                        random.nextBytes(edit);
+                        document.write(random.nextLong(size - edit.length), edit);
+                    }
+                    pages = document.dirtyPageCount();
+                    long start = System.nanoTime();
+                    document.saveAsync().join();
+                    incremental[round] = System.nanoTime() - start;
+                }
+                document.close();
+
+                long full = fullRewrite(file, size);
+                Arrays.sort(incremental);
+                System.out.printf("%5d MB: guardado incremental (%d paginas) mediana %.3f ms, max %.3f ms;"
+                                + " reescritura completa %.1f ms%n",
+                        sizeMb, pages, incremental[ROUNDS / 2] / 1e6, incremental[ROUNDS - 1] / 1e6, full / 1e6);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static long fullRewrite(Path file, long size) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocateDirect(8 << 20);
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            for (long position = 0; position < size; ) {
+                chunk.clear().limit((int) Math.min(chunk.capacity(), size - position));
+                position += channel.write(chunk, position);
+            }
+            channel.force(false);
+        }
+        return System.nanoTime() - start;
+    }
+}
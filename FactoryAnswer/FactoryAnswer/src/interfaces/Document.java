@@ -1,8 +1,23 @@
 package interfaces;
 
+import java.nio.file.Path;
+
 public interface Document {
 
     void open();
     void save();
     void close();
+
+    // Asocia el documento a un archivo; debe llamarse antes de open(). Un documento que solo vive
+    // en memoria puede ignorarlo.
+    void bind(Path file);
+
+    // Cierra sin guardar lo pendiente; es lo que se usa para abandonar un documento que fallo.
+    default void discard() {
+        close();
+    }
+
+    // Deja el documento listo para reutilizarse desde un pool.
+    default void reset() {
+    }
 }
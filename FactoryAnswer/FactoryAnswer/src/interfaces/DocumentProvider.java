@@ -0,0 +1,10 @@
+package interfaces;
+
+// Punto de extension para ServiceLoader: un jar que declare esta interfaz en
+// META-INF/services/interfaces.DocumentProvider agrega su tipo a DocumentFactory sin tocar el codigo.
+public interface DocumentProvider {
+
+    String type();
+
+    Document create();
+}
@@ -0,0 +1,4 @@
+package models;
+
+public record ConversionFailure(ManifestEntry entry, String error) {
+}
@@ -0,0 +1,14 @@
+package models;
+
+import java.util.List;
+
+public record ConversionSummary(int total, int succeeded, List<ConversionFailure> failures, double seconds) {
+
+    public int failed() {
+        return failures.size();
+    }
+
+    public double documentsPerSecond() {
+        return seconds == 0 ? 0 : (succeeded + failures.size()) / seconds;
+    }
+}
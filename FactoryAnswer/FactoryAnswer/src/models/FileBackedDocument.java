@@ -0,0 +1,226 @@
+package models;
+
+import interfaces.Document;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Base de los documentos que se guardan en archivo. open() mapea el archivo completo en memoria,
+// cada write() marca las paginas que toca y save() baja a disco solo esas paginas, en segundo plano
+// y en orden. Si un guardado falla, sus paginas vuelven a quedar sucias y el siguiente save() las
+// reintenta. close() espera el ultimo guardado y cierra el canal. Sin bind() el documento se
+// comporta como antes y solo existe en memoria.
+// Limitacion: Java no tiene una forma publica de soltar un MappedByteBuffer; el mapeo sigue vivo
+// hasta que el GC recolecta el buffer, aun despues de close(). En Windows el archivo no se puede
+// borrar ni truncar mientras tanto.
+public abstract class FileBackedDocument implements Document {
+
+    public static final int PAGE_SIZE = 4_096;
+
+    private static final ExecutorService SAVER = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "document-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Path file;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private BitSet dirtyPages = new BitSet();
+    // Paginas de guardados fallidos; el hilo que guarda no toma el lock del documento porque
+    // resize() lo tiene tomado mientras espera el guardado.
+    private final ConcurrentLinkedQueue<BitSet> failedPages = new ConcurrentLinkedQueue<>();
+    private CompletableFuture<Void> lastSave = CompletableFuture.completedFuture(null);
+
+    @Override
+    public synchronized void bind(Path file) {
+        if (channel != null) {
+            throw new IllegalStateException("El documento ya esta abierto");
+        }
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void open() {
+        if (file == null || channel != null) {
+            return;
+        }
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            map(channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el documento " + file, e);
+        }
+    }
+
+    public synchronized long size() {
+        return buffer == null ? 0 : buffer.capacity();
+    }
+
+    public synchronized void write(long offset, byte[] data) {
+        checkRange(offset, data.length);
+        buffer.put((int) offset, data);
+        if (data.length > 0) {
+            dirtyPages.set((int) (offset / PAGE_SIZE), (int) ((offset + data.length - 1) / PAGE_SIZE) + 1);
+        }
+    }
+
+    public synchronized byte[] read(long offset, int length) {
+        checkRange(offset, length);
+        byte[] data = new byte[length];
+        buffer.get((int) offset, data);
+        return data;
+    }
+
+    // Agranda o achica el archivo; lo pendiente se guarda antes de volver a mapear.
+    public synchronized void resize(long newSize) {
+        requireOpen();
+        flush();
+        try {
+            if (newSize < channel.size()) {
+                channel.truncate(newSize);
+            }
+            map(newSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cambiar el tamanio de " + file, e);
+        }
+    }
+
+    public synchronized int dirtyPageCount() {
+        mergeFailedPages();
+        return dirtyPages.cardinality();
+    }
+
+    @Override
+    public void save() {
+        saveAsync();
+    }
+
+    // Toma las paginas sucias y las baja a disco en otro hilo. Los guardados de un mismo documento
+    // se encadenan, asi que terminan en el orden en que se pidieron; un guardado fallido no corta la
+    // cadena, solo falla su propio future.
+    public synchronized CompletableFuture<Void> saveAsync() {
+        if (buffer == null) {
+            return lastSave;
+        }
+        mergeFailedPages();
+        if (dirtyPages.isEmpty()) {
+            return lastSave;
+        }
+        BitSet pages = dirtyPages;
+        dirtyPages = new BitSet();
+        MappedByteBuffer target = buffer;
+        lastSave = lastSave.handle((ignored, previousFailure) -> null).thenRunAsync(() -> {
+            try {
+                forcePages(target, pages);
+            } catch (RuntimeException | Error e) {
+                failedPages.add(pages);
+                throw e;
+            }
+        }, SAVER);
+        return lastSave;
+    }
+
+    @Override
+    public void close() {
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            if (channel == null) {
+                return;
+            }
+            pending = saveAsync();
+        }
+        try {
+            pending.join();
+        } finally {
+            synchronized (this) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("No se pudo cerrar el documento " + file, e);
+                } finally {
+                    // El mapeo se libera recien cuando el GC recolecta el buffer (ver la limitacion arriba).
+                    channel = null;
+                    buffer = null;
+                }
+            }
+        }
+    }
+
+    // Olvida las paginas sucias y cierra. No deshace lo escrito: el sistema operativo igual puede
+    // bajar esas paginas del mapeo a disco por su cuenta, solo no se fuerzan.
+    @Override
+    public void discard() {
+        synchronized (this) {
+            dirtyPages = new BitSet();
+            failedPages.clear();
+        }
+        close();
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (channel != null) {
+            throw new IllegalStateException("El documento sigue abierto");
+        }
+        file = null;
+        dirtyPages = new BitSet();
+        failedPages.clear();
+        lastSave = CompletableFuture.completedFuture(null);
+    }
+
+    private void map(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("El documento supera el maximo de 2 GB");
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    // Solo quedan las paginas que entran en el mapeo actual: resize() pudo achicar el archivo.
+    private void mergeFailedPages() {
+        for (BitSet failed = failedPages.poll(); failed != null; failed = failedPages.poll()) {
+            dirtyPages.or(failed);
+        }
+        int pageCount = (buffer.capacity() + PAGE_SIZE - 1) / PAGE_SIZE;
+        dirtyPages.clear(pageCount, Math.max(pageCount, dirtyPages.length()));
+    }
+
+    private void flush() {
+        saveAsync().join();
+    }
+
+    private void requireOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("El documento no esta abierto");
+        }
+    }
+
+    private void checkRange(long offset, int length) {
+        requireOpen();
+        if (offset < 0 || length < 0 || offset + length > buffer.capacity()) {
+            throw new IndexOutOfBoundsException("Rango fuera del documento: " + offset + "+" + length);
+        }
+    }
+
+    // Cada tramo de paginas sucias consecutivas se fuerza con una sola llamada.
+    private static void forcePages(MappedByteBuffer target, BitSet pages) {
+        int capacity = target.capacity();
+        for (int start = pages.nextSetBit(0); start >= 0; ) {
+            int end = pages.nextClearBit(start);
+            int from = start * PAGE_SIZE;
+            int to = (int) Math.min((long) end * PAGE_SIZE, capacity);
+            target.force(from, to - from);
+            start = pages.nextSetBit(end);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package models;
+
+import java.nio.file.Path;
+
+public record ManifestEntry(String type, Path path) {
+
+    // Formato de linea: tipo,ruta
+    public static ManifestEntry parse(String line) {
+        int comma = line.indexOf(',');
+        if (comma <= 0 || comma == line.length() - 1) {
+            throw new IllegalArgumentException("Linea de manifiesto invalida: " + line);
+        }
+        return new ManifestEntry(line.substring(0, comma).trim(), Path.of(line.substring(comma + 1).trim()));
+    }
+}
@@ -1,23 +1,24 @@
 package models;
 
-import interfaces.Document;
-
-public class PresentationDocument implements Document {
+public class PresentationDocument extends FileBackedDocument {
     @Override
     public void open() {
         System.out.println("Abriendo un documento de presentacion");
+        super.open();
 
     }
 
     @Override
     public void save() {
         System.out.println("guardando un documento de presentacion");
+        super.save();
 
     }
 
     @Override
     public void close() {
         System.out.println("Cerrando un documento de presentacion");
+        super.close();
 
     }
 }
@@ -1,23 +1,24 @@
 package models;
 
-import interfaces.Document;
-
-public class SpreadsheetDocument implements Document {
+public class SpreadsheetDocument extends FileBackedDocument {
     @Override
     public void open() {
         System.out.println("Abriendo un documento de hoja de calculo");
+        super.open();
 
     }
 
     @Override
     public void save() {
         System.out.println("Guardando un documento de hoja de calculo");
+        super.save();
 
     }
 
     @Override
     public void close() {
         System.out.println("Cerrando un documento de hoja de calculo");
+        super.close();
 
     }
 }
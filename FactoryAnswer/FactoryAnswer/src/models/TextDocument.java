@@ -1,23 +1,24 @@
 package models;
 
-import interfaces.Document;
-
-public class TextDocument implements Document {
+public class TextDocument extends FileBackedDocument {
     @Override
     public void open() {
         System.out.println("Abriendo un documento de texto");
+        super.open();
 
     }
 
     @Override
     public void save() {
         System.out.println("Guardando un documento de texto");
+        super.save();
 
     }
 
     @Override
     public void close() {
         System.out.println("Cerrando un documento de texto");
+        super.close();
 
     }
 }
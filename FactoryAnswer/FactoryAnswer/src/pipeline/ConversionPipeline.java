@@ -0,0 +1,155 @@
+package pipeline;
+
+import interfaces.Document;
+import models.ConversionFailure;
+import models.ConversionSummary;
+import models.ManifestEntry;
+import utils.DocumentFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Convierte en lote los documentos de un manifiesto. Cada documento pasa por tres etapas
+// (abrir, procesar, guardar y cerrar) y cada etapa corre en su propio pool con paralelismo
+// acotado, asi una etapa lenta de disco no acapara los hilos de la de CPU. Un limite de documentos
+// en vuelo frena la lectura del manifiesto. Si un documento falla se registra y se cierra sin
+// guardar; el resto del lote sigue.
+public class ConversionPipeline {
+
+    private final int openParallelism;
+    private final int processParallelism;
+    private final int saveParallelism;
+    private final Consumer<Document> transform;
+    private int progressEvery;
+    private Consumer<ConversionSummary> progressListener;
+
+    public ConversionPipeline(int openParallelism, int processParallelism, int saveParallelism,
+                              Consumer<Document> transform) {
+        if (openParallelism <= 0 || processParallelism <= 0 || saveParallelism <= 0) {
+            throw new IllegalArgumentException("El paralelismo de cada etapa debe ser mayor a 0");
+        }
+        this.openParallelism = openParallelism;
+        this.processParallelism = processParallelism;
+        this.saveParallelism = saveParallelism;
+        this.transform = transform;
+    }
+
+    // El listener recibe un resumen parcial cada `every` documentos terminados, desde el hilo de guardado.
+    public ConversionPipeline withProgress(int every, Consumer<ConversionSummary> listener) {
+        if (every <= 0) {
+            throw new IllegalArgumentException("El intervalo de progreso debe ser mayor a 0");
+        }
+        this.progressEvery = every;
+        this.progressListener = listener;
+        return this;
+    }
+
+    // Una linea por documento con el formato de ManifestEntry.parse; las lineas vacias se ignoran.
+    public ConversionSummary process(Path manifest) throws IOException {
+        List<ManifestEntry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(manifest)) {
+            if (!line.isBlank()) {
+                entries.add(ManifestEntry.parse(line));
+            }
+        }
+        return process(entries);
+    }
+
+    public ConversionSummary process(List<ManifestEntry> entries) {
+        ExecutorService openPool = Executors.newFixedThreadPool(openParallelism);
+        ExecutorService processPool = Executors.newFixedThreadPool(processParallelism);
+        ExecutorService savePool = Executors.newFixedThreadPool(saveParallelism);
+        Semaphore inFlight = new Semaphore(2 * (openParallelism + processParallelism + saveParallelism));
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        Queue<ConversionFailure> failures = new ConcurrentLinkedQueue<>();
+        long start = System.nanoTime();
+        try {
+            List<CompletableFuture<Void>> pending = new ArrayList<>(entries.size());
+            for (ManifestEntry entry : entries) {
+                inFlight.acquireUninterruptibly();
+                Document[] opened = new Document[1];
+                pending.add(CompletableFuture
+                        .supplyAsync(() -> opened[0] = open(entry), openPool)
+                        .thenApplyAsync(document -> {
+                            transform.accept(document);
+                            return document;
+                        }, processPool)
+                        .thenAcceptAsync(document -> {
+                            document.save();
+                            document.close();
+                        }, savePool)
+                        .handle((done, error) -> {
+                            if (error == null) {
+                                succeeded.incrementAndGet();
+                            } else {
+                                failures.add(new ConversionFailure(entry, describe(error)));
+                                discardQuietly(opened[0]);
+                            }
+                            inFlight.release();
+                            int finished = completed.incrementAndGet();
+                            if (progressListener != null && finished % progressEvery == 0) {
+                                reportProgress(summary(entries.size(), succeeded, failures, start));
+                            }
+                            return null;
+                        }));
+            }
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            openPool.shutdown();
+            processPool.shutdown();
+            savePool.shutdown();
+        }
+        return summary(entries.size(), succeeded, failures, start);
+    }
+
+    private static Document open(ManifestEntry entry) {
+        Document document = DocumentFactory.createDocument(entry.type());
+        document.bind(entry.path());
+        document.open();
+        return document;
+    }
+
+    // Un listener que falla no puede cortar el lote: su excepcion haria fallar el future del documento
+    // y join() abortaria la conversion entera.
+    private void reportProgress(ConversionSummary partial) {
+        try {
+            progressListener.accept(partial);
+        } catch (RuntimeException ignored) {
+            // El progreso es informativo; el resumen final sale igual.
+        }
+    }
+
+    // Un documento que fallo a mitad de camino no se guarda: quedaria en disco a medio convertir.
+    private static void discardQuietly(Document document) {
+        if (document == null) {
+            return;
+        }
+        try {
+            document.discard();
+        } catch (RuntimeException ignored) {
+            // El documento ya fallo; el error original es el que se informa.
+        }
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+
+    private static ConversionSummary summary(int total, AtomicInteger succeeded, Queue<ConversionFailure> failures,
+                                             long start) {
+        return new ConversionSummary(total, succeeded.get(), List.copyOf(failures), (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -1,23 +1,54 @@
 package utils;
 
 import interfaces.Document;
+import interfaces.DocumentProvider;
 import models.PresentationDocument;
 import models.SpreadsheetDocument;
 import models.TextDocument;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+// Registro de tipos de documento. El TreeMap compara con CASE_INSENSITIVE_ORDER, asi que buscar
+// "Text" o "TEXT" no crea un String nuevo como hacia toUpperCase. Los registros se hacen al
+// arrancar: cada uno publica una copia nueva del mapa y las lecturas no necesitan locks.
 public class DocumentFactory {
 
-    public static Document createDocument(String type){
+    private static volatile Map<String, Supplier<Document>> registry = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        register("text", TextDocument::new);
+        register("calculo", SpreadsheetDocument::new);
+        register("presentacion", PresentationDocument::new);
+        for (DocumentProvider provider : ServiceLoader.load(DocumentProvider.class)) {
+            register(provider.type(), provider::create);
+        }
+    }
+
+    public static synchronized void register(String type, Supplier<Document> constructor) {
+        Map<String, Supplier<Document>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        copy.putAll(registry);
+        copy.put(type, constructor);
+        registry = copy;
+    }
+
+    public static boolean isRegistered(String type) {
+        return registry.containsKey(type);
+    }
 
-        switch (type.toUpperCase()){
-            case "TEXT":
-                return new TextDocument();
-            case "CALCULO":
-                return new SpreadsheetDocument();
-            case "PRESENTACION":
-                return new PresentationDocument();
-            default:
-                throw new IllegalArgumentException("Tipo de documento no reconocido");
+    public static Set<String> registeredTypes() {
+        return Collections.unmodifiableSet(registry.keySet());
+    }
+
+    public static Document createDocument(String type){
+        Supplier<Document> constructor = registry.get(type);
+        if (constructor == null) {
+            throw new IllegalArgumentException("Tipo de documento no reconocido");
         }
+        return constructor.get();
     }
 }
@@ -0,0 +1,117 @@
+package utils;
+
+import interfaces.Document;
+
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Pool acotado de documentos de un mismo tipo. acquire() reutiliza uno libre o crea uno nuevo
+// con DocumentFactory; al cerrarlo se resetea y vuelve al pool si hay lugar. Cada prestamo es un
+// PooledDocument nuevo sobre el documento reutilizado: una referencia vieja a un prestamo devuelto
+// no revive cuando el mismo documento se presta a otro.
+public class DocumentPool {
+
+    private final String type;
+    private final BlockingQueue<Document> idle;
+    private final LongAdder created = new LongAdder();
+
+    public DocumentPool(String type, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad del pool debe ser mayor a 0");
+        }
+        if (!DocumentFactory.isRegistered(type)) {
+            throw new IllegalArgumentException("Tipo de documento no reconocido");
+        }
+        this.type = type;
+        this.idle = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public PooledDocument acquire() {
+        Document document = idle.poll();
+        if (document == null) {
+            created.increment();
+            document = DocumentFactory.createDocument(type);
+        }
+        return new PooledDocument(document);
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    public long createdCount() {
+        return created.sum();
+    }
+
+    public class PooledDocument implements Document {
+        private final Document delegate;
+        private final AtomicBoolean inUse = new AtomicBoolean(true);
+
+        private PooledDocument(Document delegate) {
+            this.delegate = delegate;
+        }
+
+        public Document unwrap() {
+            return delegate;
+        }
+
+        // Un prestamo ya devuelto no puede seguir usandose: el documento puede estar en manos de otro.
+        @Override
+        public void bind(Path file) {
+            checkInUse();
+            delegate.bind(file);
+        }
+
+        @Override
+        public void open() {
+            checkInUse();
+            delegate.open();
+        }
+
+        @Override
+        public void save() {
+            checkInUse();
+            delegate.save();
+        }
+
+        // Un segundo close() sobre el mismo prestamo no hace nada, asi no entra dos veces al pool.
+        @Override
+        public void close() {
+            release(false);
+        }
+
+        @Override
+        public void discard() {
+            release(true);
+        }
+
+        // close() ya resetea el documento al devolverlo; esto solo cubre a quien lo llame a mano.
+        @Override
+        public void reset() {
+            checkInUse();
+            delegate.reset();
+        }
+
+        private void release(boolean discard) {
+            if (!inUse.compareAndSet(true, false)) {
+                return;
+            }
+            if (discard) {
+                delegate.discard();
+            } else {
+                delegate.close();
+            }
+            delegate.reset();
+            idle.offer(delegate);
+        }
+
+        private void checkInUse() {
+            if (!inUse.get()) {
+                throw new IllegalStateException("El documento ya fue devuelto al pool");
+            }
+        }
+    }
+}
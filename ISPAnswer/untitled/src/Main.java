@@ -1,6 +1,8 @@
 import entities.BasicAccount;
 import entities.CorporateAccount;
 import entities.PremiumAccount;
+import engine.AccountEngine;
+import engine.EngineAccount;
 
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
@@ -14,6 +16,7 @@ public class Main {
         premiumAccount.deposit(1000);
         premiumAccount.checkBalance();
         premiumAccount.requestLoan();
+        premiumAccount.requestLoan(100000);
         premiumAccount.receiveSpecialNotification();
 
         CorporateAccount corporateAccount = new CorporateAccount(20000);
@@ -21,5 +24,11 @@ public class Main {
         corporateAccount.checkBalance();
         corporateAccount.generateFinancialReport();
         corporateAccount.internationalTransfer(10000);
+
+        AccountEngine engine = new AccountEngine(1_000);
+        EngineAccount engineAccount = engine.account(engine.openAccount(3000));
+        engineAccount.deposit(500);
+        engineAccount.internationalTransfer(1500);
+        engineAccount.checkBalance();
         }
 }
\ No newline at end of file
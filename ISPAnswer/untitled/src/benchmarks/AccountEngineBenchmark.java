@@ -0,0 +1,75 @@
+package benchmarks;
+
+import engine.AccountEngine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// java benchmarks.AccountEngineBenchmark [cuentas] [segundos] [hilos...]
+public class AccountEngineBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] threadCounts = args.length > 2 ? parse(args, 2) : new int[]{1, cores, cores * 4};
+
+        AccountEngine engine = new AccountEngine(accounts);
+        for (int i = 0; i < accounts; i++) {
+            engine.openAccount(1_000);
+        }
+        System.out.printf("cuentas=%,d segundos=%d cores=%d%n", accounts, seconds, cores);
+
+        for (int threads : threadCounts) {
+            long before = engine.totalBalance();
+            LongAdder operations = new LongAdder();
+            LongAdder deposited = new LongAdder();
+            run(engine, threads, seconds, operations, deposited);
+            long after = engine.totalBalance();
+            boolean conserved = after == before + deposited.sum();
+            System.out.printf("hilos=%d -> %,.0f ops/s (saldo total conservado: %s)%n",
+                    threads, operations.sum() / (double) seconds, conserved);
+        }
+    }
+
+    private static void run(AccountEngine engine, int threads, int seconds, LongAdder operations, LongAdder deposited)
+            throws InterruptedException {
+        int accounts = engine.accountCount();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long ops = 0;
+                long cents = 0;
+                while ((ops & 1023) != 0 || System.nanoTime() < deadline) {
+                    int from = 1 + random.nextInt(accounts - 1);
+                    if (random.nextBoolean()) {
+                        engine.deposit(from, 100);
+                        cents += 100;
+                    } else {
+                        int to = 1 + random.nextInt(accounts - 1);
+                        if (to != from) {
+                            engine.transfer(from, to, 250);
+                        }
+                    }
+                    ops++;
+                }
+                operations.add(ops);
+                deposited.add(cents);
+                done.countDown();
+            });
+            worker.start();
+        }
+        done.await();
+    }
+
+    private static int[] parse(String[] args, int from) {
+        int[] values = new int[args.length - from];
+        for (int i = from; i < args.length; i++) {
+            values[i - from] = Integer.parseInt(args[i]);
+        }
+        return values;
+    }
+}
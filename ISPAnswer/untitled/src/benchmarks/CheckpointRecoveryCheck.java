@@ -0,0 +1,123 @@
+package benchmarks;
+
+import engine.AccountEngine;
+import engine.EngineStore;
+import engine.Money;
+import journal.TransactionJournal;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Simula caidas dentro de EngineStore.checkpoint restaurando el journal como quedaria en disco en cada punto.
+// java benchmarks.CheckpointRecoveryCheck [directorio]
+public class CheckpointRecoveryCheck {
+
+    private static final String JOURNAL_FILE = "accounts.journal";
+    private static final int CAPACITY = 1024;
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        Path directory = args.length > 0 ? Path.of(args[0]) : Files.createTempDirectory("engine-checkpoint");
+
+        // Caida despues de publicar el snapshot y antes de vaciar el journal.
+        crashAfterSnapshot(directory, false);
+        // Caida dentro de reset(): el journal ya esta truncado pero conserva la base anterior.
+        crashAfterSnapshot(directory, true);
+        // Checkpoints mientras otros hilos abren cuentas y depositan en ellas.
+        checkpointDuringOpens(directory);
+
+        deleteRecursively(directory);
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void crashAfterSnapshot(Path directory, boolean truncated) throws IOException {
+        deleteRecursively(directory);
+        Path journal = directory.resolve(JOURNAL_FILE);
+        Path preReset = directory.resolve(JOURNAL_FILE + ".pre-reset");
+
+        AccountEngine engine = EngineStore.recover(directory, CAPACITY);
+        int id = engine.openAccount(100);
+        engine.withdraw(id, Money.toCents(10));
+        engine.sync();
+        Files.copy(journal, preReset);
+        EngineStore.checkpoint(engine, directory);
+        EngineStore.close(engine);
+
+        Files.move(preReset, journal, StandardCopyOption.REPLACE_EXISTING);
+        if (truncated) {
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                channel.truncate(TransactionJournal.HEADER_BYTES);
+            }
+        }
+        String label = truncated ? "caida dentro de reset" : "caida entre snapshot y reset";
+
+        // La cuenta 0 es la de compensacion internacional: se espera esa mas la abierta.
+        AccountEngine recovered = EngineStore.recover(directory, CAPACITY);
+        check(label + ": cuentas=" + recovered.accountCount() + " saldo=" + recovered.balance(id),
+                recovered.accountCount() == 2 && recovered.balance(id) == 9000);
+
+        // Las operaciones posteriores deben numerarse despues del snapshot para no saltearse en el proximo replay.
+        recovered.withdraw(id, Money.toCents(10));
+        EngineStore.close(recovered);
+        AccountEngine reopened = EngineStore.recover(directory, CAPACITY);
+        check(label + ", retiro posterior: saldo=" + reopened.balance(id), reopened.balance(id) == 8000);
+        EngineStore.close(reopened);
+    }
+
+    private static void checkpointDuringOpens(Path directory) throws Exception {
+        deleteRecursively(directory);
+        AccountEngine engine = EngineStore.recover(directory, CAPACITY);
+        List<Thread> openers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            openers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < CAPACITY / 8; i++) {
+                    int id = engine.openAccount(1);
+                    engine.deposit(id, Money.toCents(1));
+                }
+            }));
+        }
+        while (openers.stream().anyMatch(Thread::isAlive)) {
+            EngineStore.checkpoint(engine, directory);
+        }
+        for (Thread opener : openers) {
+            opener.join();
+        }
+        int accounts = engine.accountCount();
+        long total = engine.totalBalance();
+        EngineStore.close(engine);
+
+        AccountEngine recovered = EngineStore.recover(directory, CAPACITY);
+        check("checkpoints durante aperturas: cuentas=" + recovered.accountCount() + " saldo total="
+                + recovered.totalBalance(), recovered.accountCount() == accounts && recovered.totalBalance() == total);
+        EngineStore.close(recovered);
+    }
+
+    private static void check(String description, boolean ok) {
+        System.out.println(description + (ok ? " -> ok" : " -> FALLA"));
+        if (!ok) {
+            failures++;
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import entities.BasicAccount;
+import logging.EventLog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+// java benchmarks.EventLogBenchmark [depositos por hilo] [hilos...] > /dev/null
+// Los depositos escriben en System.out, asi que los resultados salen por System.err.
+public class EventLogBenchmark {
+
+    interface Deposit {
+        void run(double amount);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int deposits = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int[] threadCounts = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1, 4};
+
+        for (int threads : threadCounts) {
+            double console = run(threads, deposits, () -> {
+                double[] balance = {0};
+                return amount -> {
+                    balance[0] += amount;
+                    System.out.println("Su deposito por: " + amount + " fue realizado.");
+                };
+            });
+            long start = System.nanoTime();
+            double ring = run(threads, deposits, () -> new BasicAccount(0)::deposit);
+            EventLog.console().flush();
+            double endToEnd = (double) threads * deposits / ((System.nanoTime() - start) / 1e9);
+            System.err.printf("%d hilos: println %.2f M depositos/s, ring buffer %.2f M depositos/s"
+                            + " (%.2f M/s hasta escribir todo)%n",
+                    threads, console / 1e6, ring / 1e6, endToEnd / 1e6);
+        }
+    }
+
+    private static double run(int threads, int deposits, Supplier<Deposit> accounts)
+            throws InterruptedException {
+        List<Thread> workers = new ArrayList<>(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            Deposit deposit = accounts.get();
+            workers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < deposits; i++) {
+                    deposit.run(i % 1_000 + 0.5);
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return (double) threads * deposits / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import entities.PremiumAccount;
+import loans.LoanDecisionEngine;
+import loans.ScoreRule;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+// java benchmarks.LoanDecisionBenchmark [clientes premium] [decisiones por hilo] [hilos]
+// Arma una cartera con historiales de saldo al azar, corre la preaprobacion masiva y despues mide
+// la latencia de decisiones individuales. El 5% de los pedidos invalida antes la tarjeta del cliente,
+// como si hubiera tenido movimientos, y obliga a evaluar las reglas de nuevo.
+public class LoanDecisionBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int customers = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int decisionsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 500_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        // Las reglas por defecto mas una consulta simulada a un buro de credito de 50 us que corre en paralelo.
+        List<ScoreRule> rules = new ArrayList<>(LoanDecisionEngine.defaultRules());
+        rules.add(ScoreRule.expensive(stats -> {
+            long deadline = System.nanoTime() + 50_000;
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return 0;
+        }));
+        ExecutorService bureau = Executors.newFixedThreadPool(4);
+        LoanDecisionEngine engine = new LoanDecisionEngine(rules, LoanDecisionEngine.DEFAULT_APPROVAL_SCORE,
+                LoanDecisionEngine.DEFAULT_LEVERAGE, Duration.ofSeconds(30), bureau);
+        List<PremiumAccount> book = new ArrayList<>(customers);
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < customers; i++) {
+            PremiumAccount account = new PremiumAccount("C" + i, 1_000 + random.nextInt(20_000), engine);
+            double balance = 0;
+            for (int month = 0; month < 11; month++) {
+                balance += random.nextInt(-2_000, 3_000);
+                account.balanceHistory().record(Math.max(0, 5_000 + balance));
+            }
+            book.add(account);
+        }
+
+        long start = System.nanoTime();
+        Map<String, Double> preApproved = engine.preApprove(book);
+        double preApproveMillis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("preaprobacion de %d clientes: %.0f ms (%.0f clientes/s), %d preaprobados%n",
+                customers, preApproveMillis, customers / (preApproveMillis / 1e3), preApproved.size());
+
+        long[][] latencies = new long[threads][decisionsPerThread];
+        List<Thread> workers = new ArrayList<>(threads);
+        start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            long[] samples = latencies[t];
+            workers.add(Thread.ofPlatform().start(() -> {
+                ThreadLocalRandom local = ThreadLocalRandom.current();
+                for (int i = 0; i < samples.length; i++) {
+                    PremiumAccount account = book.get(local.nextInt(book.size()));
+                    double amount = 1_000 + local.nextInt(50_000);
+                    long begin = System.nanoTime();
+                    if (local.nextInt(100) < 5) {
+                        engine.invalidate(account.customerId());
+                    }
+                    engine.decide(account, amount);
+                    samples[i] = System.nanoTime() - begin;
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%d hilos: %.0f decisiones/s, p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f ms%n",
+                threads, all.length / seconds, all[all.length / 2] / 1e3, all[(int) (all.length * 0.99)] / 1e3,
+                all[(int) (all.length * 0.999)] / 1e3, all[all.length - 1] / 1e6);
+        System.out.println(engine.stats());
+        bureau.shutdown();
+    }
+}
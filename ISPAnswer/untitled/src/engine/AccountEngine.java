@@ -0,0 +1,258 @@
+package engine;
+
+import journal.TransactionJournal;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class AccountEngine {
+
+    public static final int INTERNATIONAL_CLEARING_ACCOUNT = 0;
+
+    static final int OPEN = 1;
+    static final int DEPOSIT = 2;
+    static final int WITHDRAW = 3;
+    static final int TRANSFER = 4;
+
+    private static final int DEFAULT_STRIPES = 4096;
+
+    private final long[] balances;
+    private final ReentrantLock[] locks;
+    private final int stripeMask;
+    private final Object openLock = new Object();
+    // Solo avanza cuando el saldo de la cuenta ya esta escrito y su apertura esta en el journal.
+    private volatile int published;
+    private volatile TransactionJournal journal;
+
+    public AccountEngine(int capacity) {
+        this(capacity, DEFAULT_STRIPES);
+    }
+
+    public AccountEngine(int capacity, int stripes) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor a 0");
+        }
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("La cantidad de stripes debe ser potencia de 2");
+        }
+        this.balances = new long[capacity + 1];
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.stripeMask = stripes - 1;
+        open(0);
+    }
+
+    public int openAccount(double initialBalance) {
+        return open(requirePositiveOrZero(Money.toCents(initialBalance)));
+    }
+
+    // Las aperturas se serializan con openLock. La cuenta se publica antes de soltar el lock de su
+    // stripe: un checkpoint (que toma todos los stripes) ve la apertura completa o no la ve, y si el
+    // journal falla el id queda libre para la siguiente apertura.
+    private int open(long cents) {
+        synchronized (openLock) {
+            int id = published;
+            if (id >= balances.length) {
+                throw new IllegalStateException("No hay capacidad para abrir mas cuentas");
+            }
+            ReentrantLock lock = lockFor(id);
+            lock.lock();
+            try {
+                balances[id] = cents;
+                record(OPEN, id, 0, cents);
+                published = id + 1;
+            } finally {
+                lock.unlock();
+            }
+            return id;
+        }
+    }
+
+    public EngineAccount account(int id) {
+        checkAccount(id);
+        return new EngineAccount(this, id);
+    }
+
+    public int accountCount() {
+        return published;
+    }
+
+    public long balance(int account) {
+        checkAccount(account);
+        ReentrantLock lock = lockFor(account);
+        lock.lock();
+        try {
+            return balances[account];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void deposit(int account, long cents) {
+        checkAccount(account);
+        requirePositive(cents);
+        ReentrantLock lock = lockFor(account);
+        lock.lock();
+        try {
+            balances[account] = Math.addExact(balances[account], cents);
+            record(DEPOSIT, account, 0, cents);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean withdraw(int account, long cents) {
+        checkAccount(account);
+        requirePositive(cents);
+        ReentrantLock lock = lockFor(account);
+        lock.lock();
+        try {
+            if (cents > balances[account]) {
+                return false;
+            }
+            balances[account] -= cents;
+            record(WITHDRAW, account, 0, cents);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean transfer(int from, int to, long cents) {
+        checkAccount(from);
+        checkAccount(to);
+        requirePositive(cents);
+        if (from == to) {
+            return false;
+        }
+        // Los locks se toman siempre en orden de stripe para que dos transferencias cruzadas no se bloqueen.
+        int fromStripe = from & stripeMask;
+        int toStripe = to & stripeMask;
+        ReentrantLock first = locks[Math.min(fromStripe, toStripe)];
+        ReentrantLock second = locks[Math.max(fromStripe, toStripe)];
+        first.lock();
+        try {
+            if (second != first) {
+                second.lock();
+            }
+            try {
+                if (cents > balances[from]) {
+                    return false;
+                }
+                long credited = Math.addExact(balances[to], cents);
+                balances[from] -= cents;
+                balances[to] = credited;
+                record(TRANSFER, from, to, cents);
+                return true;
+            } finally {
+                if (second != first) {
+                    second.unlock();
+                }
+            }
+        } finally {
+            first.unlock();
+        }
+    }
+
+    public long totalBalance() {
+        lockAll();
+        try {
+            long total = 0;
+            int count = published;
+            for (int i = 0; i < count; i++) {
+                total += balances[i];
+            }
+            return total;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    public void sync() {
+        TransactionJournal current = journal;
+        if (current != null) {
+            current.sync();
+        }
+    }
+
+    void attachJournal(TransactionJournal journal) {
+        lockAll();
+        try {
+            this.journal = journal;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    TransactionJournal journal() {
+        return journal;
+    }
+
+    // Re-ejecuta una operacion del journal; se usa solo durante la recuperacion, sin journal adjunto.
+    void replay(int kind, int account, int counterparty, long cents) {
+        switch (kind) {
+            case OPEN -> restore(account, cents);
+            case DEPOSIT -> deposit(account, cents);
+            case WITHDRAW -> withdraw(account, cents);
+            case TRANSFER -> transfer(account, counterparty, cents);
+            default -> throw new IllegalStateException("Operacion de journal desconocida: " + kind);
+        }
+    }
+
+    // Restaura una cuenta desde el snapshot o el journal; se usa solo durante la recuperacion.
+    void restore(int account, long cents) {
+        if (account >= balances.length) {
+            throw new IllegalStateException("La cuenta " + account + " excede la capacidad del motor");
+        }
+        balances[account] = cents;
+        published = Math.max(published, account + 1);
+    }
+
+    long[] balances() {
+        return balances;
+    }
+
+    void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    private void record(int kind, int account, int counterparty, long cents) {
+        TransactionJournal current = journal;
+        if (current != null) {
+            current.append(kind, account, counterparty, cents);
+        }
+    }
+
+    private ReentrantLock lockFor(int account) {
+        return locks[account & stripeMask];
+    }
+
+    private void checkAccount(int account) {
+        if (account < 0 || account >= published) {
+            throw new IllegalArgumentException("La cuenta " + account + " no existe");
+        }
+    }
+
+    private static long requirePositive(long cents) {
+        if (cents <= 0) {
+            throw new IllegalArgumentException("El monto debe ser mayor a 0");
+        }
+        return cents;
+    }
+
+    private static long requirePositiveOrZero(long cents) {
+        if (cents < 0) {
+            throw new IllegalArgumentException("El saldo inicial no puede ser negativo");
+        }
+        return cents;
+    }
+}
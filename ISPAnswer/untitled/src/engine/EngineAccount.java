@@ -0,0 +1,55 @@
+package engine;
+
+import interfaces.BalanceOperations;
+import interfaces.DepositOperations;
+import interfaces.TransferOperations;
+import logging.EventLog;
+
+public class EngineAccount implements BalanceOperations, DepositOperations, TransferOperations {
+    private static final EventLog.Message BALANCE = EventLog.Message.of("Su saldo es: {}");
+    private static final EventLog.Message DEPOSIT = EventLog.Message.of("Su deposito por: {} fue realizado.");
+    private static final EventLog.Message INTERNATIONAL_TRANSFER =
+            EventLog.Message.of("La transferencia internacional por el monto: {} Fue completada");
+    private static final EventLog.Message INTERNATIONAL_TRANSFER_REJECTED =
+            EventLog.Message.of("La transferencia internacional por el monto: {} fue rechazada por saldo insuficiente");
+
+    private final AccountEngine engine;
+    private final int id;
+
+    EngineAccount(AccountEngine engine, int id) {
+        this.engine = engine;
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public double getBalance() {
+        return Money.toAmount(engine.balance(id));
+    }
+
+    @Override
+    public void checkBalance() {
+        EventLog.console().log(BALANCE, getBalance());
+    }
+
+    @Override
+    public void deposit(double amount) {
+        engine.deposit(id, Money.toCents(amount));
+        EventLog.console().log(DEPOSIT, amount);
+    }
+
+    @Override
+    public void internationalTransfer(double amount) {
+        if (engine.transfer(id, AccountEngine.INTERNATIONAL_CLEARING_ACCOUNT, Money.toCents(amount))) {
+            EventLog.console().log(INTERNATIONAL_TRANSFER, amount);
+        } else {
+            EventLog.console().log(INTERNATIONAL_TRANSFER_REJECTED, amount);
+        }
+    }
+
+    public boolean transferTo(EngineAccount target, double amount) {
+        return engine.transfer(id, target.id, Money.toCents(amount));
+    }
+}
@@ -0,0 +1,112 @@
+package engine;
+
+import journal.TransactionJournal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// Persistencia del motor de cuentas: snapshot completo + journal de operaciones posteriores al snapshot.
+// El snapshot anota la ultima secuencia del journal que incluye: si el proceso cae entre publicar el snapshot y
+// vaciar el journal, el replay saltea esas entradas en vez de aplicarlas dos veces.
+public final class EngineStore {
+
+    private static final String SNAPSHOT_FILE = "accounts.snapshot";
+    private static final String JOURNAL_FILE = "accounts.journal";
+    private static final long SNAPSHOT_MAGIC = 0x454E47494E453032L;
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private EngineStore() {
+    }
+
+    public static AccountEngine recover(Path directory, int capacity) throws IOException {
+        Files.createDirectories(directory);
+        AccountEngine engine = new AccountEngine(capacity);
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        long sequence = 0;
+        if (Files.exists(snapshot)) {
+            sequence = readSnapshot(snapshot, engine);
+        }
+        Path journalPath = directory.resolve(JOURNAL_FILE);
+        TransactionJournal.replay(journalPath, sequence, engine::replay);
+        engine.attachJournal(TransactionJournal.open(journalPath, sequence));
+        return engine;
+    }
+
+    // Escribe un snapshot consistente y vacia el journal; las operaciones quedan bloqueadas mientras dura.
+    public static void checkpoint(AccountEngine engine, Path directory) throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        engine.lockAll();
+        try {
+            TransactionJournal journal = engine.journal();
+            long sequence = 0;
+            if (journal != null) {
+                journal.sync();
+                sequence = journal.sequence();
+            }
+            writeSnapshot(temporary, engine, sequence);
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (journal != null) {
+                journal.reset();
+            }
+        } finally {
+            engine.unlockAll();
+        }
+    }
+
+    public static void close(AccountEngine engine) throws IOException {
+        TransactionJournal journal = engine.journal();
+        if (journal != null) {
+            engine.attachJournal(null);
+            journal.close();
+        }
+    }
+
+    private static void writeSnapshot(Path path, AccountEngine engine, long sequence) throws IOException {
+        int count = engine.accountCount();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putLong(SNAPSHOT_MAGIC).putLong(sequence).putInt(count);
+            long[] balances = engine.balances();
+            for (int i = 0; i < count; i++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putLong(balances[i]);
+            }
+            drain(channel, buffer);
+            channel.force(true);
+        }
+    }
+
+    // Carga el snapshot en el motor y devuelve la ultima secuencia del journal que incluye.
+    private static long readSnapshot(Path path, AccountEngine engine) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getLong() != SNAPSHOT_MAGIC) {
+                throw new IOException("El archivo no es un snapshot del motor de cuentas");
+            }
+            long sequence = buffer.getLong();
+            int count = buffer.getInt();
+            for (int account = 0; account < count; account++) {
+                engine.restore(account, buffer.getLong());
+            }
+            return sequence;
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -2,8 +2,12 @@ package entities;
 
 import interfaces.BalanceOperations;
 import interfaces.DepositOperations;
+import logging.EventLog;
 
 public class BasicAccount implements BalanceOperations, DepositOperations {
+    private static final EventLog.Message BALANCE = EventLog.Message.of("Su saldo es: {}");
+    private static final EventLog.Message DEPOSIT = EventLog.Message.of("Su deposito por: {} fue realizado.");
+
     private double balance;
 
     public BasicAccount(double initialBalance) {
@@ -12,12 +16,12 @@ public class BasicAccount implements BalanceOperations, DepositOperations {
 
     @Override
     public void checkBalance() {
-        System.out.println("Su saldo es: " + balance);
+        EventLog.console().log(BALANCE, balance);
     }
 
     @Override
     public void deposit(double amount) {
         balance += amount;
-        System.out.println("Su deposito por: " + amount + " fue realizado.");
+        EventLog.console().log(DEPOSIT, amount);
     }
 }
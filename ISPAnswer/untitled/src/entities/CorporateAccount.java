@@ -4,8 +4,16 @@ import interfaces.BalanceOperations;
 import interfaces.DepositOperations;
 import interfaces.ReportOperations;
 import interfaces.TransferOperations;
+import logging.EventLog;
 
 public class CorporateAccount implements BalanceOperations, DepositOperations, ReportOperations, TransferOperations {
+    private static final EventLog.Message BALANCE = EventLog.Message.of("Su saldo es: {}");
+    private static final EventLog.Message DEPOSIT = EventLog.Message.of("Su deposito por: {} fue realizado.");
+    private static final EventLog.Message FINANCIAL_REPORT =
+            EventLog.Message.of("Reporte finaciero generado para su cuenta corporativa");
+    private static final EventLog.Message INTERNATIONAL_TRANSFER =
+            EventLog.Message.of("La transferencia internacional por el monto: {} Fue completada");
+
     private double balance;
 
     public CorporateAccount(double initialBalance) {
@@ -14,25 +22,25 @@ public class CorporateAccount implements BalanceOperations, DepositOperations, R
 
     @Override
     public void checkBalance() {
-        System.out.println("Su saldo es: " + balance);
+        EventLog.console().log(BALANCE, balance);
     }
 
     @Override
     public void deposit(double amount) {
         balance += amount;
-        System.out.println("Su deposito por: " + amount + " fue realizado.");
+        EventLog.console().log(DEPOSIT, amount);
     }
 
     @Override
     public void generateFinancialReport() {
-        System.out.println("Reporte finaciero generado para su cuenta corporativa");
+        EventLog.console().log(FINANCIAL_REPORT);
     }
 
     @Override
     public void internationalTransfer(double amount) {
         if (amount <= balance){
             balance -= amount;
-            System.out.println("La transferencia internacional por el monto: " + amount + " Fue completada");
+            EventLog.console().log(INTERNATIONAL_TRANSFER, amount);
         }
 
     }
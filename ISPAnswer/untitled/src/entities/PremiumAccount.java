@@ -4,32 +4,85 @@ import interfaces.BalanceOperations;
 import interfaces.DepositOperations;
 import interfaces.LoanOperations;
 import interfaces.NotificationOperations;
+import loans.BalanceHistory;
+import loans.LoanApplicant;
+import loans.LoanDecision;
+import loans.LoanDecisionEngine;
+import logging.EventLog;
 
-public class PremiumAccount implements BalanceOperations, DepositOperations, LoanOperations, NotificationOperations {
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PremiumAccount implements BalanceOperations, DepositOperations, LoanOperations, NotificationOperations,
+        LoanApplicant {
+    private static final EventLog.Message BALANCE = EventLog.Message.of("Su saldo es: {}");
+    private static final EventLog.Message DEPOSIT = EventLog.Message.of("Su deposito por: {} fue realizado.");
+    private static final EventLog.Message LOAN_APPROVED =
+            EventLog.Message.of("Su pedido de prestamo por: {} fue aprobado.");
+    private static final EventLog.Message LOAN_REJECTED =
+            EventLog.Message.of("Su pedido de prestamo por: {} fue rechazado.");
+    private static final EventLog.Message SPECIAL_NOTIFICATION =
+            EventLog.Message.of("Recibiste una notificacion especial en tu cuenta premium.");
+
+    private static final LoanDecisionEngine DEFAULT_LOAN_ENGINE = new LoanDecisionEngine();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final String customerId;
+    private final LoanDecisionEngine loanEngine;
+    private final BalanceHistory history = new BalanceHistory();
     private double balance;
 
     public PremiumAccount(double initialBalance) {
+        this("P-" + SEQUENCE.incrementAndGet(), initialBalance, DEFAULT_LOAN_ENGINE);
+    }
+
+    public PremiumAccount(String customerId, double initialBalance, LoanDecisionEngine loanEngine) {
+        this.customerId = customerId;
+        this.loanEngine = loanEngine;
         this.balance = initialBalance;
+        history.record(initialBalance);
+    }
+
+    @Override
+    public String customerId() {
+        return customerId;
+    }
+
+    @Override
+    public BalanceHistory balanceHistory() {
+        return history;
     }
 
     @Override
     public void checkBalance() {
-        System.out.println("Su saldo es: " + balance);
+        EventLog.console().log(BALANCE, balance);
     }
 
     @Override
     public void deposit(double amount) {
         balance += amount;
-        System.out.println("Su deposito por: " + amount + " fue realizado.");
+        history.record(balance);
+        EventLog.console().log(DEPOSIT, amount);
     }
 
+    // Sin monto se pide un prestamo igual al saldo actual.
     @Override
     public void requestLoan() {
-        System.out.println("Su pedido de prestamo fue realizado.");
+        requestLoan(balance);
+    }
+
+    // Un monto no positivo (por ejemplo pedir el saldo con la cuenta en cero) se rechaza sin
+    // consultar al motor, que solo acepta montos mayores a 0.
+    @Override
+    public LoanDecision requestLoan(double amount) {
+        LoanDecision decision = amount > 0
+                ? loanEngine.decide(this, amount)
+                : new LoanDecision(customerId, amount, false, 0, 0, "El monto debe ser mayor a 0");
+        EventLog.console().log(decision.approved() ? LOAN_APPROVED : LOAN_REJECTED, amount);
+        return decision;
     }
 
     @Override
     public void receiveSpecialNotification() {
-        System.out.println("Recibiste una notificacion especial en tu cuenta premium.");
+        EventLog.console().log(SPECIAL_NOTIFICATION);
     }
 }
@@ -1,5 +1,9 @@
 package interfaces;
 
+import loans.LoanDecision;
+
 public interface LoanOperations {
     void requestLoan();
+
+    LoanDecision requestLoan(double amount);
 }
@@ -0,0 +1,268 @@
+package journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Journal binario de solo-agregado: registros de ENTRY_BYTES con (tipo, cuenta, contraparte, centavos).
+// append() solo copia al buffer; sync() hace group commit: un unico force() cubre a todos los que esperan.
+// Durabilidad: un hilo de commit llama a sync() cada GROUP_COMMIT_MILLIS, asi una operacion confirmada
+// llega a disco a lo sumo en ese intervalo aunque nadie llame a sync(). Una caida puede perder solo las
+// operaciones de la ultima ventana; quien necesite durabilidad inmediata llama a sync(sequence).
+// Las secuencias no vuelven a 0 con reset(): el header guarda la base (ultima secuencia anterior al archivo), asi
+// un snapshot puede anotar hasta que secuencia cubre y el replay saltea lo que ya esta incluido en el.
+public class TransactionJournal implements AutoCloseable {
+
+    public static final int ENTRY_BYTES = 24;
+    static final long MAGIC = 0x54584A524E4C3031L;
+    static final int VERSION = 2;
+    public static final int HEADER_BYTES = 24;
+    private static final int BUFFER_BYTES = ENTRY_BYTES * 43_690;
+    private static final long MAX_MAPPED_CHUNK = (long) ENTRY_BYTES * (1 << 25);
+    public static final long GROUP_COMMIT_MILLIS = 10;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private long appended;
+    private volatile long durable;
+    private final Thread committer;
+    private volatile boolean closed;
+
+    private TransactionJournal(Path path, FileChannel channel, long sequence) {
+        this.path = path;
+        this.channel = channel;
+        this.appended = sequence;
+        this.durable = sequence;
+        this.committer = new Thread(this::commitPeriodically, "journal-commit");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    // after es la ultima secuencia cubierta por el snapshot; las nuevas entradas se numeran despues de ella.
+    public static TransactionJournal open(Path path, long after) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            long base;
+            if (size < HEADER_BYTES) {
+                writeHeader(channel, after);
+                size = HEADER_BYTES;
+                base = after;
+            } else {
+                base = readHeader(channel);
+            }
+            // Un registro a medio escribir al final (caida durante un write) se descarta.
+            long entries = (size - HEADER_BYTES) / ENTRY_BYTES;
+            if (base + entries < after) {
+                // Caida dentro de reset(): el journal quedo vacio pero con la base anterior al snapshot.
+                writeHeader(channel, after);
+                base = after;
+                entries = 0;
+            }
+            long end = HEADER_BYTES + entries * ENTRY_BYTES;
+            channel.truncate(end);
+            channel.position(end);
+            return new TransactionJournal(path, channel, base + entries);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long append(int kind, int account, int counterparty, long cents) {
+        appendLock.lock();
+        try {
+            if (buffer.remaining() < ENTRY_BYTES) {
+                drainBuffer();
+            }
+            buffer.putInt(kind).putInt(account).putInt(counterparty).putInt(0).putLong(cents);
+            return ++appended;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public void sync(long sequence) {
+        if (durable >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durable >= sequence) {
+                return;
+            }
+            long target;
+            appendLock.lock();
+            try {
+                drainBuffer();
+                target = appended;
+            } finally {
+                appendLock.unlock();
+            }
+            channel.force(false);
+            durable = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public void sync() {
+        sync(sequence());
+    }
+
+    public long sequence() {
+        appendLock.lock();
+        try {
+            return appended;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // Vacia el journal despues de un snapshot. El llamador debe garantizar que no haya appends concurrentes.
+    // Primero se trunca y luego se mueve la base: una caida en el medio deja un journal vacio, nunca entradas
+    // viejas con una base nueva.
+    public void reset() {
+        syncLock.lock();
+        appendLock.lock();
+        try {
+            buffer.clear();
+            channel.truncate(HEADER_BYTES);
+            channel.force(true);
+            channel.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, appended),
+                    HEADER_BYTES - Long.BYTES);
+            channel.position(HEADER_BYTES);
+            channel.force(true);
+            durable = appended;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(committer);
+        boolean interrupted = false;
+        while (committer.isAlive()) {
+            try {
+                committer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        try {
+            sync();
+        } finally {
+            channel.close();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Un force() fallido no detiene el hilo: las entradas siguen en el buffer o en el page cache y el proximo
+    // intento (o el sync() de quien llama, que si ve el error) las vuelve a bajar.
+    private void commitPeriodically() {
+        while (!closed) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(GROUP_COMMIT_MILLIS));
+            if (closed) {
+                return;
+            }
+            try {
+                sync();
+            } catch (UncheckedIOException e) {
+                // Se reintenta en el proximo intervalo.
+            }
+        }
+    }
+
+    // Aplica las entradas con secuencia mayor a after y devuelve cuantas aplico.
+    public static long replay(Path path, long after, JournalEntryHandler handler) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                return 0;
+            }
+            long base = readHeader(channel);
+            long entries = (size - HEADER_BYTES) / ENTRY_BYTES;
+            long covered = Math.min(entries, Math.max(0, after - base));
+            entries -= covered;
+            long position = HEADER_BYTES + covered * ENTRY_BYTES;
+            long remaining = entries * ENTRY_BYTES;
+            while (remaining > 0) {
+                long chunk = Math.min(remaining, MAX_MAPPED_CHUNK);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, chunk);
+                mapped.order(ByteOrder.LITTLE_ENDIAN);
+                while (mapped.hasRemaining()) {
+                    int kind = mapped.getInt();
+                    int account = mapped.getInt();
+                    int counterparty = mapped.getInt();
+                    mapped.getInt();
+                    handler.apply(kind, account, counterparty, mapped.getLong());
+                }
+                position += chunk;
+                remaining -= chunk;
+            }
+            return entries;
+        }
+    }
+
+    // Si el write falla, lo no escrito queda en el buffer: el proximo drain lo reintenta en vez de perderlo.
+    private void drainBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        } catch (IOException e) {
+            buffer.compact();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeHeader(FileChannel channel, long base) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(MAGIC).putInt(VERSION).putInt(ENTRY_BYTES).putLong(base).flip();
+        channel.truncate(0);
+        channel.write(header, 0);
+        channel.force(true);
+    }
+
+    // Valida el header y devuelve la base del journal.
+    private static long readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getLong() != MAGIC || header.getInt() != VERSION
+                || header.getInt() != ENTRY_BYTES) {
+            throw new IOException("El archivo no es un journal de transacciones valido");
+        }
+        return header.getLong();
+    }
+}
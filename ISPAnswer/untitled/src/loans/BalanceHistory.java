@@ -0,0 +1,44 @@
+package loans;
+
+// Ultimos saldos de una cuenta en un arreglo circular de tamanio fijo.
+public class BalanceHistory {
+
+    public static final int DEFAULT_CAPACITY = 12;
+
+    private final double[] balances;
+    private int next;
+    private int size;
+
+    public BalanceHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor a 0");
+        }
+        this.balances = new double[capacity];
+    }
+
+    public BalanceHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public synchronized void record(double balance) {
+        balances[next] = balance;
+        next = (next + 1) % balances.length;
+        size = Math.min(size + 1, balances.length);
+    }
+
+    public synchronized BalanceStats stats() {
+        if (size == 0) {
+            return new BalanceStats(0, 0, 0, 0, 0);
+        }
+        int oldest = (next - size + balances.length) % balances.length;
+        int newest = (next - 1 + balances.length) % balances.length;
+        double sum = 0;
+        double minimum = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            double balance = balances[(oldest + i) % balances.length];
+            sum += balance;
+            minimum = Math.min(minimum, balance);
+        }
+        return new BalanceStats(size, balances[newest], sum / size, minimum, balances[newest] - balances[oldest]);
+    }
+}
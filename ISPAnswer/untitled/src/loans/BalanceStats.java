@@ -0,0 +1,4 @@
+package loans;
+
+public record BalanceStats(int samples, double current, double average, double minimum, double trend) {
+}
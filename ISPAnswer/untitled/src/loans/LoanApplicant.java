@@ -0,0 +1,8 @@
+package loans;
+
+public interface LoanApplicant {
+
+    String customerId();
+
+    BalanceHistory balanceHistory();
+}
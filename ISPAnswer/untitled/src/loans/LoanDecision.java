@@ -0,0 +1,5 @@
+package loans;
+
+public record LoanDecision(String customerId, double amount, boolean approved, int score, double maxAmount,
+                           String reason) {
+}
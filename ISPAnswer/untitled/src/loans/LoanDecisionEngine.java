@@ -0,0 +1,152 @@
+package loans;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+// Decide pedidos de prestamo a partir del historial de saldos. Las reglas de puntaje caras se
+// evaluan en paralelo y el resultado (puntaje y monto maximo) queda en cache por cliente durante ttl, asi que
+// la mayoria de las decisiones solo comparan el monto pedido contra la tarjeta cacheada. Un deposito
+// no invalida la tarjeta: el puntaje puede tener hasta ttl de atraso, o se usa invalidate().
+public class LoanDecisionEngine {
+
+    public static final int DEFAULT_APPROVAL_SCORE = 60;
+    public static final double DEFAULT_LEVERAGE = 5;
+
+    private final List<ScoreRule> rules;
+    private final int approvalScore;
+    private final double leverage;
+    private final long ttlNanos;
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private final Map<String, ScoreCard> cards = new ConcurrentHashMap<>();
+    private final LongAdder decisions = new LongAdder();
+    private final LongAdder approvals = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public LoanDecisionEngine(List<ScoreRule> rules, int approvalScore, double leverage, Duration ttl,
+                              Executor executor) {
+        this(rules, approvalScore, leverage, ttl, executor, System::nanoTime);
+    }
+
+    LoanDecisionEngine(List<ScoreRule> rules, int approvalScore, double leverage, Duration ttl, Executor executor,
+                       LongSupplier ticker) {
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("El motor necesita al menos una regla");
+        }
+        this.rules = List.copyOf(rules);
+        this.approvalScore = approvalScore;
+        this.leverage = leverage;
+        this.ttlNanos = ttl.toNanos();
+        this.executor = executor;
+        this.ticker = ticker;
+    }
+
+    public LoanDecisionEngine() {
+        this(defaultRules(), DEFAULT_APPROVAL_SCORE, DEFAULT_LEVERAGE, Duration.ofMinutes(5), ForkJoinPool.commonPool());
+    }
+
+    // Saldo promedio (40), estabilidad del saldo minimo (30), tendencia (20) y antiguedad del historial (10).
+    public static List<ScoreRule> defaultRules() {
+        return List.of(
+                stats -> (int) Math.max(0, Math.min(40, stats.average() / 250)),
+                stats -> stats.average() <= 0 ? 0 : (int) (30 * Math.max(0, stats.minimum()) / stats.average()),
+                stats -> stats.trend() >= 0 ? 20
+                        : stats.average() <= 0 ? 0 : (int) Math.max(0, 20 + 20 * stats.trend() / stats.average()),
+                stats -> 10 * stats.samples() / BalanceHistory.DEFAULT_CAPACITY);
+    }
+
+    public LoanDecision decide(LoanApplicant applicant, double amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("El monto debe ser mayor a 0");
+        }
+        ScoreCard card = card(applicant, true);
+        decisions.increment();
+        if (card.score() < approvalScore) {
+            return new LoanDecision(applicant.customerId(), amount, false, card.score(), card.maxAmount(),
+                    "Puntaje insuficiente");
+        }
+        if (amount > card.maxAmount()) {
+            return new LoanDecision(applicant.customerId(), amount, false, card.score(), card.maxAmount(),
+                    "El monto supera el maximo aprobado");
+        }
+        approvals.increment();
+        return new LoanDecision(applicant.customerId(), amount, true, card.score(), card.maxAmount(), "Aprobado");
+    }
+
+    // Calcula el monto preaprobado de toda la cartera en paralelo y deja las tarjetas en cache.
+    // Solo incluye a los clientes que alcanzan el puntaje de aprobacion.
+    public Map<String, Double> preApprove(Collection<? extends LoanApplicant> book) {
+        return book.parallelStream()
+                .map(applicant -> Map.entry(applicant.customerId(), card(applicant, false)))
+                .filter(entry -> entry.getValue().score() >= approvalScore)
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey, entry -> entry.getValue().maxAmount()));
+    }
+
+    public void invalidate(String customerId) {
+        cards.remove(customerId);
+    }
+
+    public LoanEngineStats stats() {
+        return new LoanEngineStats(decisions.sum(), approvals.sum(), cacheHits.sum(), cacheMisses.sum());
+    }
+
+    private ScoreCard card(LoanApplicant applicant, boolean parallelRules) {
+        long now = ticker.getAsLong();
+        ScoreCard card = cards.get(applicant.customerId());
+        if (card != null && now - card.expiresAt() < 0) {
+            cacheHits.increment();
+            return card;
+        }
+        cacheMisses.increment();
+        BalanceStats stats = applicant.balanceHistory().stats();
+        int score = Math.min(100, parallelRules ? scoreInParallel(stats) : score(stats));
+        double maxAmount = stats.current() <= 0 ? 0 : Math.max(0, stats.average()) * leverage * score / 100;
+        card = new ScoreCard(score, maxAmount, now + ttlNanos);
+        cards.put(applicant.customerId(), card);
+        return card;
+    }
+
+    private int score(BalanceStats stats) {
+        int total = 0;
+        for (ScoreRule rule : rules) {
+            total += rule.score(stats);
+        }
+        return total;
+    }
+
+    // Las reglas caras se lanzan en el executor y las baratas corren mientras tanto en este hilo.
+    private int scoreInParallel(BalanceStats stats) {
+        List<CompletableFuture<Integer>> pending = null;
+        int total = 0;
+        for (ScoreRule rule : rules) {
+            if (rule.expensive()) {
+                if (pending == null) {
+                    pending = new ArrayList<>();
+                }
+                pending.add(CompletableFuture.supplyAsync(() -> rule.score(stats), executor));
+            } else {
+                total += rule.score(stats);
+            }
+        }
+        if (pending != null) {
+            for (CompletableFuture<Integer> rule : pending) {
+                total += rule.join();
+            }
+        }
+        return total;
+    }
+
+    private record ScoreCard(int score, double maxAmount, long expiresAt) {
+    }
+}
@@ -0,0 +1,4 @@
+package loans;
+
+public record LoanEngineStats(long decisions, long approvals, long cacheHits, long cacheMisses) {
+}
@@ -0,0 +1,28 @@
+package loans;
+
+// Una componente del puntaje; la suma de todas las reglas va de 0 a 100.
+@FunctionalInterface
+public interface ScoreRule {
+
+    int score(BalanceStats stats);
+
+    // Las reglas caras (por ejemplo las que consultan un servicio externo) corren en paralelo en el
+    // executor del motor; las baratas se evaluan directo porque el traspaso de hilo costaria mas.
+    default boolean expensive() {
+        return false;
+    }
+
+    static ScoreRule expensive(ScoreRule rule) {
+        return new ScoreRule() {
+            @Override
+            public int score(BalanceStats stats) {
+                return rule.score(stats);
+            }
+
+            @Override
+            public boolean expensive() {
+                return true;
+            }
+        };
+    }
+}
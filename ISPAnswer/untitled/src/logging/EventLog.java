@@ -0,0 +1,218 @@
+package logging;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Sink de eventos de baja latencia para los caminos calientes. log() solo copia el mensaje y sus
+// argumentos a un ring buffer preasignado; un hilo escritor arma los textos y los escribe por lotes,
+// asi quien llama no concatena Strings ni compite por el lock de System.out. Si el ring se llena,
+// log() espera a que el escritor libere lugar en vez de perder eventos. Los eventos de un mismo hilo
+// salen en orden, pero pueden intercalarse distinto con lo que se imprima directo en System.out.
+// Despues de close(), o si el escritor murio, quien llama a log() escribe lo pendiente el mismo.
+// Cada ejercicio es un proyecto aparte sin dependencias entre si, asi que esta clase esta copiada
+// igual en ISPAnswer, LCPAnswer y AdapterAnswer: un cambio en una copia va en las tres.
+public final class EventLog implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final int WRITE_BATCH = 1_024;
+    private static volatile EventLog console;
+
+    private final PrintStream out;
+    private final int mask;
+    private final Message[] messages;
+    private final String[] texts;
+    private final double[] amounts;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final Thread writer;
+    private final Object directLock = new Object();
+    private volatile long written;
+    private volatile boolean closed;
+
+    public EventLog(PrintStream out, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser una potencia de 2");
+        }
+        this.out = out;
+        this.mask = capacity - 1;
+        this.messages = new Message[capacity];
+        this.texts = new String[capacity];
+        this.amounts = new double[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.writer = new Thread(this::drain, "event-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Log compartido hacia System.out; al terminar la JVM se vacia lo pendiente.
+    public static EventLog console() {
+        EventLog log = console;
+        if (log == null) {
+            synchronized (EventLog.class) {
+                log = console;
+                if (log == null) {
+                    log = new EventLog(System.out, DEFAULT_CAPACITY);
+                    Runtime.getRuntime().addShutdownHook(new Thread(log::close, "event-log-shutdown"));
+                    console = log;
+                }
+            }
+        }
+        return log;
+    }
+
+    public void log(Message message) {
+        publish(message, null, 0);
+    }
+
+    public void log(Message message, double amount) {
+        publish(message, null, amount);
+    }
+
+    public void log(Message message, String text, double amount) {
+        publish(message, text, amount);
+    }
+
+    // Espera a que el escritor haya escrito todo lo registrado hasta ahora.
+    public void flush() {
+        long target = claimed.get();
+        while (written < target && writer.isAlive()) {
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(Message message, String text, double amount) {
+        long sequence = claimed.getAndIncrement();
+        while (sequence - written >= messages.length) {
+            // Con el escritor vivo (aunque se este cerrando) el lugar se libera solo; si murio no.
+            if (!writer.isAlive()) {
+                drainDirect();
+            } else {
+                Thread.onSpinWait();
+                Thread.yield();
+            }
+        }
+        int slot = (int) (sequence & mask);
+        messages[slot] = message;
+        texts[slot] = text;
+        amounts[slot] = amount;
+        published.setRelease(slot, sequence);
+        // El escritor puede haber salido justo antes de este evento: se espera a que termine y se
+        // escribe lo que quedo.
+        if (closed) {
+            awaitWriter();
+            drainDirect();
+        }
+    }
+
+    private void drain() {
+        StringBuilder batch = new StringBuilder(WRITE_BATCH * 64);
+        long cursor = 0;
+        while (true) {
+            long next = writeBatch(cursor, batch);
+            if (next > cursor) {
+                cursor = next;
+            } else if (closed && cursor == claimed.get()) {
+                return;
+            } else {
+                LockSupport.parkNanos(200_000);
+            }
+        }
+    }
+
+    // Solo se llama con el escritor terminado, asi que no hay dos hilos escribiendo a la vez.
+    private void drainDirect() {
+        synchronized (directLock) {
+            StringBuilder batch = new StringBuilder();
+            for (long cursor = written, next; (next = writeBatch(cursor, batch)) > cursor; ) {
+                cursor = next;
+            }
+        }
+    }
+
+    // Escribe hasta WRITE_BATCH eventos publicados desde cursor y devuelve el cursor siguiente.
+    private long writeBatch(long cursor, StringBuilder batch) {
+        int count = 0;
+        while (count < WRITE_BATCH && published.getAcquire((int) (cursor & mask)) == cursor) {
+            int slot = (int) (cursor & mask);
+            messages[slot].appendTo(batch, texts[slot], amounts[slot]);
+            batch.append(System.lineSeparator());
+            messages[slot] = null;
+            texts[slot] = null;
+            cursor++;
+            count++;
+        }
+        if (count > 0) {
+            out.print(batch);
+            out.flush();
+            batch.setLength(0);
+            written = cursor;
+        }
+        return cursor;
+    }
+
+    private void awaitWriter() {
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Plantilla con marcadores {}: el primero recibe el texto (si hay) y el siguiente el monto.
+    public static final class Message {
+        private final String[] parts;
+
+        private Message(String[] parts) {
+            this.parts = parts;
+        }
+
+        public static Message of(String template) {
+            List<String> parts = new ArrayList<>();
+            int from = 0;
+            for (int at = template.indexOf("{}"); at >= 0; at = template.indexOf("{}", from)) {
+                parts.add(template.substring(from, at));
+                from = at + 2;
+            }
+            parts.add(template.substring(from));
+            return new Message(parts.toArray(new String[0]));
+        }
+
+        void appendTo(StringBuilder target, String text, double amount) {
+            target.append(parts[0]);
+            int next = 1;
+            if (text != null && next < parts.length) {
+                target.append(text).append(parts[next++]);
+            }
+            if (next < parts.length) {
+                target.append(amount).append(parts[next++]);
+            }
+            while (next < parts.length) {
+                target.append(parts[next++]);
+            }
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import logging.EventLog;
 import models.BankAccount;
 import models.CurrentAccount;
 import models.SavingsAccount;
@@ -15,13 +16,20 @@ public class Main {
         savings.withdraw(200);
         savings.withdraw(200);
 
+        // Los retiros se informan en segundo plano; se vacia el log para no mezclar el orden
+        EventLog.console().flush();
         System.out.println("Balance inicial cuenta corriente: "+ current.getBalance());
         current.withdraw(500);
         current.withdraw(2000);
 
         if( savings instanceof SavingsAccount){
-            savings.addInterest();
+            // El cierre de mes aplica el interes y habilita de nuevo los retiros
+            savings.closeMonth();
+            EventLog.console().flush();
             System.out.println("Balance actual luego del interes: " + savings.getBalance());
+            savings.withdraw(100);
+            EventLog.console().flush();
+            System.out.println("Balance luego del primer retiro del mes: " + savings.getBalance());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package benchmarks;
+
+import journal.TransactionJournal;
+import ledger.AccountLedger;
+import ledger.AccountType;
+import ledger.LedgerStore;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+// Simula caidas dentro de LedgerStore.checkpoint restaurando el journal como quedaria en disco en cada punto.
+// java benchmarks.CheckpointRecoveryCheck [directorio]
+public class CheckpointRecoveryCheck {
+
+    private static final String JOURNAL_FILE = "ledger.journal";
+    private static final int CAPACITY = 1024;
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        Path directory = args.length > 0 ? Path.of(args[0]) : Files.createTempDirectory("ledger-checkpoint");
+
+        // Caida despues de publicar el snapshot y antes de vaciar el journal.
+        crashAfterSnapshot(directory, false);
+        // Caida dentro de reset(): el journal ya esta truncado pero conserva la base anterior.
+        crashAfterSnapshot(directory, true);
+
+        deleteRecursively(directory);
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void crashAfterSnapshot(Path directory, boolean truncated) throws IOException {
+        deleteRecursively(directory);
+        Path journal = directory.resolve(JOURNAL_FILE);
+        Path preReset = directory.resolve(JOURNAL_FILE + ".pre-reset");
+
+        AccountLedger ledger = LedgerStore.recover(directory, CAPACITY);
+        int id = ledger.open(AccountType.CURRENT, 100);
+        ledger.withdraw(id, AccountLedger.toCents(10));
+        ledger.sync();
+        Files.copy(journal, preReset);
+        LedgerStore.checkpoint(ledger, directory);
+        LedgerStore.close(ledger);
+
+        Files.move(preReset, journal, StandardCopyOption.REPLACE_EXISTING);
+        if (truncated) {
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                channel.truncate(TransactionJournal.HEADER_BYTES);
+            }
+        }
+        String label = truncated ? "caida dentro de reset" : "caida entre snapshot y reset";
+
+        AccountLedger recovered = LedgerStore.recover(directory, CAPACITY);
+        check(label + ": cuentas=" + recovered.size() + " saldo=" + recovered.balanceCents(id),
+                recovered.size() == 1 && recovered.balanceCents(id) == 9000);
+
+        // Las operaciones posteriores deben numerarse despues del snapshot para no saltearse en el proximo replay.
+        recovered.withdraw(id, AccountLedger.toCents(10));
+        LedgerStore.close(recovered);
+        AccountLedger reopened = LedgerStore.recover(directory, CAPACITY);
+        check(label + ", retiro posterior: saldo=" + reopened.balanceCents(id), reopened.balanceCents(id) == 8000);
+        LedgerStore.close(reopened);
+    }
+
+    private static void check(String description, boolean ok) {
+        System.out.println(description + (ok ? " -> ok" : " -> FALLA"));
+        if (!ok) {
+            failures++;
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import ledger.AccountLedger;
+import ledger.AccountType;
+import ledger.LedgerStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+// java -Xmx2g benchmarks.JournalBenchmark [operaciones] [hilos] [directorio]
+public class JournalBenchmark {
+
+    private static final int ACCOUNTS = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        Path directory = args.length > 2 ? Path.of(args[2]) : Files.createTempDirectory("ledger-journal");
+        deleteRecursively(directory);
+
+        AccountLedger ledger = LedgerStore.recover(directory, ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            ledger.open(AccountType.CURRENT, 1_000_000);
+        }
+        LedgerStore.checkpoint(ledger, directory);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            ledger.withdraw(i % ACCOUNTS, 1);
+        }
+        ledger.sync();
+        double buffered = operations / ((System.nanoTime() - start) / 1e9);
+        System.out.printf("retiros con journal (sync al final): %,.0f ops/s%n", buffered);
+
+        // Cada retiro espera a estar en disco; el group commit reparte un force() entre todos los hilos en espera.
+        int durableOperations = Math.max(threads, operations / 100);
+        Thread[] workers = new Thread[threads];
+        start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < durableOperations / threads; i++) {
+                    ledger.withdraw(random.nextInt(ACCOUNTS), 1);
+                    ledger.sync();
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double durable = durableOperations / ((System.nanoTime() - start) / 1e9);
+        System.out.printf("retiros durables con group commit (%d hilos): %,.0f ops/s%n", threads, durable);
+
+        long expected = ledger.balanceCents(ACCOUNTS - 1);
+        LedgerStore.close(ledger);
+
+        start = System.nanoTime();
+        AccountLedger recovered = LedgerStore.recover(directory, ACCOUNTS);
+        double replayMillis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("recuperacion (snapshot + replay de %,d entradas): %.0f ms, saldo consistente: %s%n",
+                operations + durableOperations, replayMillis, recovered.balanceCents(ACCOUNTS - 1) == expected);
+        LedgerStore.close(recovered);
+        deleteRecursively(directory);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
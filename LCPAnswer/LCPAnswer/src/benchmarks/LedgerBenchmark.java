@@ -0,0 +1,93 @@
+package benchmarks;
+
+import ledger.AccountLedger;
+import ledger.AccountType;
+import models.BankAccount;
+import models.CurrentAccount;
+import models.SavingsAccount;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// java -Xmx4g benchmarks.LedgerBenchmark [cuentas]
+public class LedgerBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        System.out.printf("cuentas=%,d%n", accounts);
+        System.out.println("objetos: " + objectModel(accounts));
+        System.out.println("ledger:  " + ledger(accounts));
+    }
+
+    private static String objectModel(int accounts) {
+        long baseline = usedHeap();
+        BankAccount[] objects = new BankAccount[accounts];
+        for (int i = 0; i < accounts; i++) {
+            objects[i] = (i & 1) == 0 ? new SavingsAccount(1_000) : new CurrentAccount(1_000);
+        }
+        long heap = usedHeap() - baseline;
+
+        // withdraw() del modelo de objetos imprime cada operacion: se descarta la salida para medir solo el modelo.
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        double withdrawals = measure(accounts, () -> {
+            for (BankAccount account : objects) {
+                account.withdraw(1);
+            }
+        });
+        System.setOut(console);
+        double interest = measure(accounts, () -> {
+            for (BankAccount account : objects) {
+                if (account instanceof SavingsAccount savings) {
+                    savings.addInterest();
+                }
+            }
+        });
+        return format(accounts, heap, withdrawals, interest);
+    }
+
+    private static String ledger(int accounts) {
+        long baseline = usedHeap();
+        AccountLedger ledger = new AccountLedger(accounts);
+        for (int i = 0; i < accounts; i++) {
+            ledger.open((i & 1) == 0 ? AccountType.SAVINGS : AccountType.CURRENT, 1_000);
+        }
+        long heap = usedHeap() - baseline;
+
+        double withdrawals = measure(accounts, () -> {
+            for (int id = 0; id < accounts; id++) {
+                ledger.withdraw(id, 100);
+            }
+        });
+        double interest = measure(accounts, () -> {
+            for (int id = 0; id < accounts; id++) {
+                ledger.addInterest(id);
+            }
+        });
+        return format(accounts, heap, withdrawals, interest);
+    }
+
+    private static String format(int accounts, long heap, double withdrawals, double interest) {
+        return String.format("heap=%,d MB (%d bytes/cuenta) retiros=%,.0f ops/s interes=%,.0f ops/s",
+                heap >> 20, heap / accounts, withdrawals, interest);
+    }
+
+    private static double measure(int operationsPerRound, Runnable round) {
+        round.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            round.run();
+        }
+        return (double) operationsPerRound * ROUNDS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,66 @@
+package benchmarks;
+
+import ledger.AccountLedger;
+import ledger.AccountType;
+import ledger.MonthEndBatch;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// java -Xmx2g benchmarks.MonthEndBenchmark [cuentas]
+public class MonthEndBenchmark {
+
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        AccountLedger ledger = new AccountLedger(accounts);
+        for (int i = 0; i < accounts; i++) {
+            ledger.open((i & 1) == 0 ? AccountType.SAVINGS : AccountType.CURRENT, 1_000);
+        }
+
+        // Retiros concurrentes durante todo el benchmark: el cierre de mes no los detiene.
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder withdrawals = new LongAdder();
+        Thread withdrawer = new Thread(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                ledger.withdraw(random.nextInt(accounts), 1);
+                withdrawals.increment();
+            }
+        });
+        withdrawer.start();
+
+        System.out.printf("cuentas=%,d cores=%d%n", accounts, cores);
+        double baseline = 0;
+        for (int parallelism = 1; parallelism <= cores; parallelism = nextParallelism(parallelism, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            MonthEndBatch batch = new MonthEndBatch(ledger, pool);
+            batch.run();
+            long start = System.nanoTime();
+            int closed = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                closed = batch.run();
+            }
+            double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+            if (parallelism == 1) {
+                baseline = millis;
+            }
+            System.out.printf("paralelismo=%d -> %.1f ms por cierre (%,d cajas de ahorro, speedup x%.2f)%n",
+                    parallelism, millis, closed, baseline / millis);
+            pool.shutdown();
+        }
+
+        running.set(false);
+        withdrawer.join();
+        System.out.printf("retiros concurrentes durante el benchmark: %,d%n", withdrawals.sum());
+    }
+
+    private static int nextParallelism(int current, int cores) {
+        return current < cores && current * 2 > cores ? cores : current * 2;
+    }
+}
@@ -0,0 +1,7 @@
+package journal;
+
+@FunctionalInterface
+public interface JournalEntryHandler {
+
+    void apply(int kind, int account, int counterparty, long cents);
+}
@@ -0,0 +1,267 @@
+package ledger;
+
+import journal.TransactionJournal;
+import models.SavingsAccount;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// Saldos en columnas de primitivos (centavos) indexadas por id de cuenta: sin un objeto por cuenta.
+// Cada bloque de BLOCK_SIZE cuentas contiguas comparte un lock, asi el cierre de mes toma un lock por bloque.
+public class AccountLedger {
+
+    static final int OPEN = 1;
+    static final int WITHDRAW = 2;
+    static final int INTEREST = 3;
+    static final int CLOSE_MONTH = 4;
+
+    static final int BLOCK_SHIFT = 10;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private static final long CENTS_PER_UNIT = 100;
+    private static final AccountType[] TYPES = AccountType.values();
+    private static final long INTEREST_RATE_BPS = Math.round(SavingsAccount.INTEREST_RATE * 10_000);
+
+    private final long[] balances;
+    private final byte[] types;
+    private final byte[] withdrawalCounts;
+    private final ReentrantLock[] blockLocks;
+    private final Object openLock = new Object();
+    private volatile int size;
+    private volatile TransactionJournal journal;
+
+    public AccountLedger(int capacity) {
+        this.balances = new long[capacity];
+        this.types = new byte[capacity];
+        this.withdrawalCounts = new byte[capacity];
+        this.blockLocks = new ReentrantLock[(capacity + BLOCK_SIZE - 1) >>> BLOCK_SHIFT];
+        for (int i = 0; i < blockLocks.length; i++) {
+            blockLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public int open(AccountType type, double initialBalance) {
+        return open(type, toCents(initialBalance));
+    }
+
+    private int open(AccountType type, long cents) {
+        if (cents < 0) {
+            throw new IllegalArgumentException("El saldo inicial no puede ser negativo");
+        }
+        synchronized (openLock) {
+            if (size == balances.length) {
+                throw new IllegalStateException("No hay capacidad para abrir mas cuentas");
+            }
+            int id = size;
+            ReentrantLock lock = lockFor(id);
+            lock.lock();
+            try {
+                balances[id] = cents;
+                types[id] = (byte) type.ordinal();
+                withdrawalCounts[id] = 0;
+                record(OPEN, id, type.ordinal(), cents);
+                // Se publica antes de soltar el lock del bloque: closeMonth lee size con ese lock tomado.
+                size = id + 1;
+            } finally {
+                lock.unlock();
+            }
+            return id;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return balances.length;
+    }
+
+    int blockCount() {
+        return (size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+    }
+
+    public AccountType type(int id) {
+        checkAccount(id);
+        return TYPES[types[id]];
+    }
+
+    public long balanceCents(int id) {
+        checkAccount(id);
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            return balances[id];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double balance(int id) {
+        return (double) balanceCents(id) / CENTS_PER_UNIT;
+    }
+
+    public int withdrawalCount(int id) {
+        checkAccount(id);
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            return withdrawalCounts[id];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public WithdrawalResult withdraw(int id, long cents) {
+        checkAccount(id);
+        if (cents <= 0) {
+            throw new IllegalArgumentException("El monto debe ser mayor a 0");
+        }
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            boolean savings = types[id] == AccountType.SAVINGS.ordinal();
+            if (savings && withdrawalCounts[id] >= SavingsAccount.MAX_WITHDRAWALS) {
+                return WithdrawalResult.LIMIT_REACHED;
+            }
+            if (cents > balances[id]) {
+                return WithdrawalResult.INSUFFICIENT_FUNDS;
+            }
+            balances[id] -= cents;
+            if (savings) {
+                withdrawalCounts[id]++;
+            }
+            record(WITHDRAW, id, 0, cents);
+            return WithdrawalResult.OK;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean addInterest(int id) {
+        checkAccount(id);
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            if (types[id] != AccountType.SAVINGS.ordinal()) {
+                return false;
+            }
+            balances[id] += interestOn(balances[id]);
+            record(INTEREST, id, 0, 0);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Aplica interes y reinicia el contador de retiros de todas las cajas de ahorro del bloque.
+    int closeMonth(int block) {
+        return closeMonth(block, Integer.MAX_VALUE);
+    }
+
+    // El journal guarda el limite to usado en vivo, asi el replay cierra exactamente las mismas cuentas.
+    private int closeMonth(int block, int limit) {
+        int from = block << BLOCK_SHIFT;
+        int closed = 0;
+        ReentrantLock lock = blockLocks[block];
+        lock.lock();
+        try {
+            int to = Math.min(Math.min(from + BLOCK_SIZE, size), limit);
+            for (int id = from; id < to; id++) {
+                if (types[id] == AccountType.SAVINGS.ordinal()) {
+                    balances[id] += interestOn(balances[id]);
+                    withdrawalCounts[id] = 0;
+                    closed++;
+                }
+            }
+            record(CLOSE_MONTH, block, to, 0);
+        } finally {
+            lock.unlock();
+        }
+        return closed;
+    }
+
+    public void sync() {
+        TransactionJournal current = journal;
+        if (current != null) {
+            current.sync();
+        }
+    }
+
+    void attachJournal(TransactionJournal journal) {
+        lockAll();
+        try {
+            this.journal = journal;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    TransactionJournal journal() {
+        return journal;
+    }
+
+    // Re-ejecuta una operacion del journal; se usa solo durante la recuperacion, sin journal adjunto.
+    void replay(int kind, int account, int counterparty, long cents) {
+        switch (kind) {
+            case OPEN -> open(TYPES[counterparty], cents);
+            case WITHDRAW -> withdraw(account, cents);
+            case INTEREST -> addInterest(account);
+            case CLOSE_MONTH -> closeMonth(account, counterparty);
+            default -> throw new IllegalStateException("Operacion de journal desconocida: " + kind);
+        }
+    }
+
+    void lockAll() {
+        synchronized (openLock) {
+            for (ReentrantLock lock : blockLocks) {
+                lock.lock();
+            }
+        }
+    }
+
+    void unlockAll() {
+        for (int i = blockLocks.length - 1; i >= 0; i--) {
+            blockLocks[i].unlock();
+        }
+    }
+
+    long[] balances() {
+        return balances;
+    }
+
+    byte[] types() {
+        return types;
+    }
+
+    byte[] withdrawalCounts() {
+        return withdrawalCounts;
+    }
+
+    void restoreSize(int size) {
+        this.size = size;
+    }
+
+    public static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_UNIT);
+    }
+
+    private void record(int kind, int account, int counterparty, long cents) {
+        if (journal != null) {
+            journal.append(kind, account, counterparty, cents);
+        }
+    }
+
+    private static long interestOn(long cents) {
+        return cents * INTEREST_RATE_BPS / 10_000;
+    }
+
+    private ReentrantLock lockFor(int id) {
+        return blockLocks[id >>> BLOCK_SHIFT];
+    }
+
+    private void checkAccount(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("La cuenta " + id + " no existe");
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package ledger;
+
+public enum AccountType {
+    CURRENT,
+    SAVINGS
+}
@@ -0,0 +1,127 @@
+package ledger;
+
+import journal.TransactionJournal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// Persistencia del ledger: snapshot completo + journal de operaciones posteriores al snapshot.
+// El snapshot anota la ultima secuencia del journal que incluye: si el proceso cae entre publicar el snapshot y
+// vaciar el journal, el replay saltea esas entradas en vez de aplicarlas dos veces.
+public final class LedgerStore {
+
+    private static final String SNAPSHOT_FILE = "ledger.snapshot";
+    private static final String JOURNAL_FILE = "ledger.journal";
+    private static final long SNAPSHOT_MAGIC = 0x4C45444745523032L;
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private LedgerStore() {
+    }
+
+    public static AccountLedger recover(Path directory, int capacity) throws IOException {
+        Files.createDirectories(directory);
+        AccountLedger ledger = new AccountLedger(capacity);
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        long sequence = 0;
+        if (Files.exists(snapshot)) {
+            sequence = readSnapshot(snapshot, ledger);
+        }
+        Path journalPath = directory.resolve(JOURNAL_FILE);
+        TransactionJournal.replay(journalPath, sequence, ledger::replay);
+        ledger.attachJournal(TransactionJournal.open(journalPath, sequence));
+        return ledger;
+    }
+
+    // Escribe un snapshot consistente y vacia el journal; las operaciones quedan bloqueadas mientras dura.
+    public static void checkpoint(AccountLedger ledger, Path directory) throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        ledger.lockAll();
+        try {
+            TransactionJournal journal = ledger.journal();
+            long sequence = 0;
+            if (journal != null) {
+                journal.sync();
+                sequence = journal.sequence();
+            }
+            writeSnapshot(temporary, ledger, sequence);
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (journal != null) {
+                journal.reset();
+            }
+        } finally {
+            ledger.unlockAll();
+        }
+    }
+
+    public static void close(AccountLedger ledger) throws IOException {
+        TransactionJournal journal = ledger.journal();
+        if (journal != null) {
+            ledger.attachJournal(null);
+            journal.close();
+        }
+    }
+
+    private static void writeSnapshot(Path path, AccountLedger ledger, long sequence) throws IOException {
+        int size = ledger.size();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putLong(SNAPSHOT_MAGIC).putLong(sequence).putInt(size);
+            long[] balances = ledger.balances();
+            for (int i = 0; i < size; i++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putLong(balances[i]);
+            }
+            for (byte[] column : new byte[][]{ledger.types(), ledger.withdrawalCounts()}) {
+                for (int offset = 0; offset < size; ) {
+                    if (!buffer.hasRemaining()) {
+                        drain(channel, buffer);
+                    }
+                    int length = Math.min(buffer.remaining(), size - offset);
+                    buffer.put(column, offset, length);
+                    offset += length;
+                }
+            }
+            drain(channel, buffer);
+            channel.force(true);
+        }
+    }
+
+    // Carga el snapshot en el ledger y devuelve la ultima secuencia del journal que incluye.
+    private static long readSnapshot(Path path, AccountLedger ledger) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getLong() != SNAPSHOT_MAGIC) {
+                throw new IOException("El archivo no es un snapshot del ledger");
+            }
+            long sequence = buffer.getLong();
+            int size = buffer.getInt();
+            if (size > ledger.capacity()) {
+                throw new IOException("El snapshot tiene " + size + " cuentas y la capacidad es " + ledger.capacity());
+            }
+            buffer.asLongBuffer().get(ledger.balances(), 0, size);
+            buffer.position(buffer.position() + size * Long.BYTES);
+            buffer.get(ledger.types(), 0, size);
+            buffer.get(ledger.withdrawalCounts(), 0, size);
+            ledger.restoreSize(size);
+            return sequence;
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
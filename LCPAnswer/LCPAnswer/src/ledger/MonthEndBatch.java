@@ -0,0 +1,55 @@
+package ledger;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class MonthEndBatch {
+
+    private static final int BLOCKS_PER_TASK = 16;
+
+    private final AccountLedger ledger;
+    private final ForkJoinPool pool;
+
+    public MonthEndBatch(AccountLedger ledger, ForkJoinPool pool) {
+        this.ledger = ledger;
+        this.pool = pool;
+    }
+
+    public MonthEndBatch(AccountLedger ledger) {
+        this(ledger, ForkJoinPool.commonPool());
+    }
+
+    // Devuelve la cantidad de cajas de ahorro cerradas. Los retiros pueden seguir mientras corre:
+    // cada bloque se cierra bajo su propio lock, por lo que un retiro queda antes o despues del cierre.
+    public int run() {
+        return pool.invoke(new CloseBlocks(0, ledger.blockCount()));
+    }
+
+    private class CloseBlocks extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        CloseBlocks(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= BLOCKS_PER_TASK) {
+                int closed = 0;
+                for (int block = from; block < to; block++) {
+                    closed += ledger.closeMonth(block);
+                }
+                return closed;
+            }
+            int middle = (from + to) >>> 1;
+            CloseBlocks left = new CloseBlocks(from, middle);
+            left.fork();
+            int right = new CloseBlocks(middle, to).compute();
+            return left.join() + right;
+        }
+    }
+}
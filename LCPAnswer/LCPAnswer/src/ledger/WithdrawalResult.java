@@ -0,0 +1,7 @@
+package ledger;
+
+public enum WithdrawalResult {
+    OK,
+    INSUFFICIENT_FUNDS,
+    LIMIT_REACHED
+}
@@ -1,6 +1,10 @@
 package models;
 
+import logging.EventLog;
+
 public class CurrentAccount extends BankAccount {
+    private static final EventLog.Message INSUFFICIENT_FUNDS = EventLog.Message.of("Los fondos son insuficientes");
+    private static final EventLog.Message WITHDRAWN = EventLog.Message.of("Retiraste: {}$ de tu cuenta");
 
     public CurrentAccount(double initialBalance) {
         super(initialBalance);
@@ -9,11 +13,11 @@ public class CurrentAccount extends BankAccount {
     @Override
     public void withdraw(double amount) {
         if (amount > balance) {
-            System.out.println("Los fondos son insuficientes");
+            EventLog.console().log(INSUFFICIENT_FUNDS);
             return;
         }
 
         balance -= amount;
-        System.out.println("Retiraste: " + amount + "$ de tu cuenta");
+        EventLog.console().log(WITHDRAWN, amount);
     }
 }
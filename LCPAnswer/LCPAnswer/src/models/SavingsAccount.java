@@ -1,10 +1,15 @@
 package models;
 
+import logging.EventLog;
+
 public class SavingsAccount extends BankAccount {
+    private static final EventLog.Message LIMIT_REACHED = EventLog.Message.of("Superaste el limite de retiros del mes");
+    private static final EventLog.Message INSUFFICIENT_FUNDS = EventLog.Message.of("Los fondos son insuficientes");
+    private static final EventLog.Message WITHDRAWN = EventLog.Message.of("Retiraste el dinero de tu cuenta");
 
     private int withdrawalCount = 0;
-    private static final int MAX_WITHDRAWALS = 3;
-    private static final double INTEREST_RATE = 0.02;
+    public static final int MAX_WITHDRAWALS = 3;
+    public static final double INTEREST_RATE = 0.02;
 
     public SavingsAccount(double initialBalance) {
         super(initialBalance);
@@ -13,21 +18,31 @@ public class SavingsAccount extends BankAccount {
     @Override
     public void withdraw(double amount) {
         if (withdrawalCount >= MAX_WITHDRAWALS) {
-            System.out.println("Superaste el limite de retiros del mes");
+            EventLog.console().log(LIMIT_REACHED);
             return;
         }
         if (amount > balance) {
-            System.out.println("Los fondos son insuficientes");
+            EventLog.console().log(INSUFFICIENT_FUNDS);
             return;
         }
 
         balance -= amount;
         withdrawalCount++;
-        System.out.println("Retiraste el dinero de tu cuenta");
+        EventLog.console().log(WITHDRAWN);
     }
 
     public void addInterest() {
         balance += balance * INTEREST_RATE;
     }
 
+    public void resetWithdrawals() {
+        withdrawalCount = 0;
+    }
+
+    // Cierre de mes de una cuenta suelta: lo mismo que MonthEndBatch hace sobre el ledger.
+    public void closeMonth() {
+        addInterest();
+        resetWithdrawals();
+    }
+
 }
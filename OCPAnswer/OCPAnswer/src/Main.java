@@ -1,3 +1,4 @@
+import entities.AsyncNotificationSender;
 import entities.EmailNotification;
 import entities.NotificationSender;
 import entities.SMSNotification;
@@ -18,5 +19,12 @@ public class Main {
         notificationSender.sendNotification(notificationEmail);
         System.out.println();
         notificationSender.sendNotification(notificationWzp);
+        System.out.println();
+
+        try (AsyncNotificationSender asyncSender = new AsyncNotificationSender()) {
+            asyncSender.sendNotification(notificationSms);
+            asyncSender.sendNotification(notificationEmail);
+            asyncSender.sendNotification(notificationWzp);
+        }
     }
 }
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import entities.AsyncNotificationSender;
+import entities.ChannelStats;
+import entities.NotificationSender;
+import interfaces.Notification;
+
+import java.util.concurrent.TimeUnit;
+
+// java benchmarks.SlowChannelSimulation
+public class SlowChannelSimulation {
+
+    private static final int NOTIFICATIONS = 200;
+    private static final long SEND_MILLIS = 20;
+
+    static class SlowSmsNotification implements Notification {
+        @Override
+        public void send() {
+            try {
+                Thread.sleep(SEND_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static class FastEmailNotification implements Notification {
+        @Override
+        public void send() {
+        }
+    }
+
+    public static void main(String[] args) {
+        NotificationSender syncSender = new NotificationSender();
+        long start = System.nanoTime();
+        for (int i = 0; i < NOTIFICATIONS / 10; i++) {
+            syncSender.sendNotification(new SlowSmsNotification());
+        }
+        double syncMillisPerCall = (System.nanoTime() - start) / 1e6 / (NOTIFICATIONS / 10);
+        System.out.printf("sincronico: %.2f ms bloqueado por llamada%n", syncMillisPerCall);
+
+        AsyncNotificationSender asyncSender = new AsyncNotificationSender(
+                1_024, 64, 16, 100, TimeUnit.MILLISECONDS, Thread.ofVirtual().factory());
+        start = System.nanoTime();
+        int accepted = 0;
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            accepted += asyncSender.sendNotification(new SlowSmsNotification()) ? 1 : 0;
+            accepted += asyncSender.sendNotification(new FastEmailNotification()) ? 1 : 0;
+        }
+        double asyncMillisPerCall = (System.nanoTime() - start) / 1e6 / (NOTIFICATIONS * 2);
+        int depth = asyncSender.queueDepth(SlowSmsNotification.class);
+        asyncSender.close();
+
+        ChannelStats sms = asyncSender.stats(SlowSmsNotification.class);
+        ChannelStats email = asyncSender.stats(FastEmailNotification.class);
+        System.out.printf("asincronico: %.3f ms por llamada, %d aceptadas, cola sms al terminar de encolar: %d%n",
+                asyncMillisPerCall, accepted, depth);
+        System.out.println("sms:   " + sms);
+        System.out.println("email: " + email);
+        System.out.println(asyncMillisPerCall < syncMillisPerCall / 10
+                ? "OK: el hilo que envia no queda bloqueado por el canal lento"
+                : "ERROR: el hilo que envia quedo bloqueado");
+    }
+}
@@ -0,0 +1,171 @@
+package entities;
+
+import interfaces.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Cada tipo de Notification tiene su propia cola acotada y sus propios workers:
+// un canal lento (SMS, Wzp) no frena a los demas ni al hilo que envia.
+public class AsyncNotificationSender implements AutoCloseable {
+
+    private final int queueCapacity;
+    private final int workersPerChannel;
+    private final int batchSize;
+    private final long offerTimeoutNanos;
+    private final ThreadFactory threadFactory;
+    private final Map<Class<?>, Lane> lanes = new ConcurrentHashMap<>();
+    // Los envios toman el read lock y close() el write lock: una vez cerrado no entra nada a ninguna cola.
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public AsyncNotificationSender(int queueCapacity, int workersPerChannel, int batchSize,
+                                   long offerTimeout, TimeUnit unit, ThreadFactory threadFactory) {
+        this.queueCapacity = queueCapacity;
+        this.workersPerChannel = workersPerChannel;
+        this.batchSize = batchSize;
+        this.offerTimeoutNanos = unit.toNanos(offerTimeout);
+        this.threadFactory = threadFactory;
+    }
+
+    public AsyncNotificationSender() {
+        this(1_024, 2, 32, 100, TimeUnit.MILLISECONDS, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Devuelve false si la cola del canal sigue llena despues del timeout (back-pressure).
+    public boolean sendNotification(Notification notification) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("El sender ya fue cerrado");
+            }
+            Lane lane = lanes.computeIfAbsent(notification.getClass(), type -> new Lane(type.getSimpleName()));
+            try {
+                if (lane.queue.offer(new Pending(notification, System.nanoTime()), offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lane.rejected.increment();
+            return false;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    public int queueDepth(Class<? extends Notification> type) {
+        Lane lane = lanes.get(type);
+        return lane == null ? 0 : lane.queue.size();
+    }
+
+    public ChannelStats stats(Class<? extends Notification> type) {
+        Lane lane = lanes.get(type);
+        if (lane == null) {
+            return new ChannelStats(0, 0, 0, 0, 0, 0);
+        }
+        long sent = lane.sent.sum();
+        long completed = sent + lane.failed.sum();
+        double average = completed == 0 ? 0 : lane.latencyNanos.sum() / 1e6 / completed;
+        return new ChannelStats(lane.queue.size(), sent, lane.failed.sum(), lane.rejected.sum(),
+                average, lane.maxLatencyNanos.get() / 1e6);
+    }
+
+    // Deja de aceptar notificaciones y espera a que se envien las que ya estaban encoladas.
+    // Si se interrumpe la espera, los workers siguen vaciando las colas y se restaura la interrupcion.
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            for (Lane lane : lanes.values()) {
+                for (Thread worker : lane.workers) {
+                    worker.join();
+                }
+                // Un worker puede salir justo despues de un poll vacio; lo que quedo se envia en este hilo.
+                Pending pending;
+                while ((pending = lane.queue.poll()) != null) {
+                    lane.deliver(pending);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Pending(Notification notification, long enqueuedAt) {
+    }
+
+    private class Lane {
+        private final BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final List<Thread> workers = new ArrayList<>();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+        Lane(String name) {
+            for (int i = 0; i < workersPerChannel; i++) {
+                Thread worker = threadFactory.newThread(this::drain);
+                worker.setName("notification-" + name + "-" + i);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+
+        private void drain() {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            while (true) {
+                try {
+                    Pending first = queue.poll(50, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        if (closed) {
+                            return;
+                        }
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    for (Pending pending : batch) {
+                        deliver(pending);
+                    }
+                    batch.clear();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void deliver(Pending pending) {
+            try {
+                pending.notification().send();
+                sent.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+            }
+            long latency = System.nanoTime() - pending.enqueuedAt();
+            latencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+        }
+    }
+}
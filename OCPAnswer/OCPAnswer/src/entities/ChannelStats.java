@@ -0,0 +1,5 @@
+package entities;
+
+public record ChannelStats(int queueDepth, long sent, long failed, long rejected,
+                           double averageLatencyMillis, double maxLatencyMillis) {
+}
@@ -0,0 +1,4 @@
+package com.testExample.demo.cache;
+
+public record CacheStats(long hits, long misses, long evictions, long expirations, int size) {
+}
@@ -0,0 +1,4 @@
+package com.testExample.demo.cache;
+
+public record CachedResponse(byte[] body, String etag) {
+}
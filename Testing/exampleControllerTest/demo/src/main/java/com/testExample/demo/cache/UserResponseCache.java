@@ -0,0 +1,173 @@
+package com.testExample.demo.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+// LRU acotado con TTL. Los hits leen un ConcurrentHashMap sin locks y solo anotan el acceso en un
+// buffer; el orden LRU (un LinkedHashMap) se actualiza en lote bajo evictionLock, en las escrituras
+// o cuando el buffer se llena. Si el buffer esta lleno y otro hilo tiene el lock, el acceso se
+// descarta: el orden queda aproximado bajo carga, nunca el tamanio.
+@Component
+public class UserResponseCache implements MeterBinder {
+
+    private static final int READ_BUFFER_SIZE = 128;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Integer, Boolean> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Queue<Integer> readBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingReads = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @Autowired
+    public UserResponseCache(@Value("${users.cache.max-entries:10000}") int maxEntries,
+                             @Value("${users.cache.ttl:PT5M}") Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    UserResponseCache(int maxEntries, Duration ttl, LongSupplier ticker) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("users.cache.max-entries debe ser mayor a 0");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    public CachedResponse get(int id, IntFunction<CachedResponse> loader) {
+        long now = ticker.getAsLong();
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            if (now - entry.expiresAt < 0) {
+                hits.increment();
+                recordRead(id);
+                return entry.response;
+            }
+            expire(id, entry);
+        }
+        misses.increment();
+        CachedResponse response = loader.apply(id);
+        evictionLock.lock();
+        try {
+            drainReads();
+            entries.put(id, new Entry(response, now + ttlNanos));
+            accessOrder.put(id, Boolean.TRUE);
+            evictOverflow();
+        } finally {
+            evictionLock.unlock();
+        }
+        return response;
+    }
+
+    public void invalidate(int id) {
+        evictionLock.lock();
+        try {
+            entries.remove(id);
+            accessOrder.remove(id);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), entries.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("users.cache.gets", hits, LongAdder::sum)
+                .description("Lecturas del cache de respuestas de usuarios")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("users.cache.gets", misses, LongAdder::sum)
+                .description("Lecturas del cache de respuestas de usuarios")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("users.cache.evictions", evictions, LongAdder::sum)
+                .description("Entradas quitadas del cache de respuestas de usuarios")
+                .tag("cause", "size")
+                .register(registry);
+        FunctionCounter.builder("users.cache.evictions", expirations, LongAdder::sum)
+                .description("Entradas quitadas del cache de respuestas de usuarios")
+                .tag("cause", "expired")
+                .register(registry);
+        Gauge.builder("users.cache.size", entries, Map::size)
+                .description("Entradas en el cache de respuestas de usuarios")
+                .register(registry);
+    }
+
+    private void recordRead(int id) {
+        if (pendingReads.incrementAndGet() > READ_BUFFER_SIZE) {
+            pendingReads.decrementAndGet();
+            if (evictionLock.tryLock()) {
+                try {
+                    drainReads();
+                    accessOrder.get(id);
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+            return;
+        }
+        readBuffer.offer(id);
+    }
+
+    private void expire(int id, Entry entry) {
+        evictionLock.lock();
+        try {
+            if (entries.remove(id, entry)) {
+                accessOrder.remove(id);
+                expirations.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Solo con evictionLock tomado. get() sobre un LinkedHashMap con orden de acceso mueve la clave al final.
+    private void drainReads() {
+        Integer id;
+        while ((id = readBuffer.poll()) != null) {
+            pendingReads.decrementAndGet();
+            accessOrder.get(id);
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Integer> eldest = accessOrder.keySet().iterator();
+        while (accessOrder.size() > maxEntries) {
+            Integer id = eldest.next();
+            eldest.remove();
+            entries.remove(id);
+            evictions.increment();
+        }
+    }
+
+    private record Entry(CachedResponse response, long expiresAt) {
+    }
+}
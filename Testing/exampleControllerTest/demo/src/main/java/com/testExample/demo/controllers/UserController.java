@@ -1,21 +1,55 @@
 package com.testExample.demo.controllers;
 
-import com.testExample.demo.models.Address;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.testExample.demo.cache.CachedResponse;
+import com.testExample.demo.cache.UserResponseCache;
 import com.testExample.demo.models.User;
+import com.testExample.demo.services.UserService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
+    private final UserService userService;
+    private final UserResponseCache userResponseCache;
+    private final ObjectWriter userWriter;
+
+    public UserController(UserService userService, UserResponseCache userResponseCache, ObjectMapper objectMapper) {
+        this.userService = userService;
+        this.userResponseCache = userResponseCache;
+        this.userWriter = objectMapper.writerFor(User.class);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUser(@PathVariable int id) {
-        Address address = new Address("123 Main St", "Springfield");
-        User user = new User("John Doe", 30, address);
-        return ResponseEntity.ok(user);
+    public ResponseEntity<byte[]> getUser(@PathVariable int id, WebRequest request) {
+        CachedResponse response = userResponseCache.get(id, this::render);
+        if (request.checkNotModified(response.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
+    }
+
+    private CachedResponse render(int id) {
+        try {
+            byte[] body = userWriter.writeValueAsBytes(userService.findUser(id));
+            return new CachedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
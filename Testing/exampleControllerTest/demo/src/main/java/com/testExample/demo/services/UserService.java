@@ -0,0 +1,14 @@
+package com.testExample.demo.services;
+
+import com.testExample.demo.models.Address;
+import com.testExample.demo.models.User;
+import org.springframework.stereotype.Service;
+
+@Service
+public class UserService {
+
+    public User findUser(int id) {
+        Address address = new Address("123 Main St", "Springfield");
+        return new User("John Doe", 30, address);
+    }
+}
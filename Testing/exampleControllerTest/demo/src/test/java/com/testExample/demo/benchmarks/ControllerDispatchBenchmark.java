@@ -0,0 +1,37 @@
+package com.testExample.demo.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testExample.demo.cache.UserResponseCache;
+import com.testExample.demo.controllers.UserController;
+import com.testExample.demo.services.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerDispatchBenchmark {
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        UserResponseCache cache = new UserResponseCache(10_000, Duration.ofMinutes(5));
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(new UserService(), cache, new ObjectMapper())).build();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getUser() throws Exception {
+        return mockMvc.perform(get("/api/users/1")).andReturn().getResponse();
+    }
+}
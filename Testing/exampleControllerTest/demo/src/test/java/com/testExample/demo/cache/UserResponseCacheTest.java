@@ -0,0 +1,80 @@
+package com.testExample.demo.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserResponseCacheTest {
+
+    private static CachedResponse response(int id) {
+        return new CachedResponse(new byte[1024], "\"" + id + "\"");
+    }
+
+    @Test
+    void shouldStayBoundedUnderManyDistinctIds() {
+        UserResponseCache cache = new UserResponseCache(100, Duration.ofMinutes(5));
+
+        for (int id = 0; id < 100_000; id++) {
+            cache.get(id, UserResponseCacheTest::response);
+        }
+
+        CacheStats stats = cache.stats();
+        assertEquals(100, stats.size());
+        assertEquals(100_000, stats.misses());
+        assertEquals(99_900, stats.evictions());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry() {
+        UserResponseCache cache = new UserResponseCache(2, Duration.ofMinutes(5));
+        cache.get(1, UserResponseCacheTest::response);
+        cache.get(2, UserResponseCacheTest::response);
+        cache.get(1, UserResponseCacheTest::response);
+        cache.get(3, UserResponseCacheTest::response);
+
+        CachedResponse first = cache.get(1, UserResponseCacheTest::response);
+        cache.get(2, UserResponseCacheTest::response);
+
+        assertEquals("\"1\"", first.etag());
+        assertEquals(2, cache.stats().hits());
+        assertEquals(4, cache.stats().misses());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        AtomicLong now = new AtomicLong();
+        UserResponseCache cache = new UserResponseCache(10, Duration.ofSeconds(30), now::get);
+
+        CachedResponse first = cache.get(1, UserResponseCacheTest::response);
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertSame(first, cache.get(1, UserResponseCacheTest::response));
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertNotSame(first, cache.get(1, UserResponseCacheTest::response));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1, stats.expirations());
+    }
+
+    @Test
+    void shouldExportStatsToMeterRegistry() {
+        UserResponseCache cache = new UserResponseCache(1, Duration.ofMinutes(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(1, UserResponseCacheTest::response);
+        cache.get(1, UserResponseCacheTest::response);
+        cache.get(2, UserResponseCacheTest::response);
+
+        assertEquals(1, registry.get("users.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(2, registry.get("users.cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("users.cache.evictions").tag("cause", "size").functionCounter().count());
+        assertEquals(1, registry.get("users.cache.size").gauge().value());
+    }
+}
@@ -3,12 +3,16 @@ package com.testExample.demo.controllers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import com.testExample.demo.cache.UserResponseCache;
+import com.testExample.demo.services.UserService;
+import org.springframework.context.annotation.Import;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(UserController.class)
+@Import({UserService.class, UserResponseCache.class})
 public class UserControllerTest {
 
     @Autowired
@@ -42,4 +46,17 @@ public class UserControllerTest {
                 .andExpect(content().json(expectedJson));
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+        String etag = mockMvc.perform(get("/api/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/users/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
 }
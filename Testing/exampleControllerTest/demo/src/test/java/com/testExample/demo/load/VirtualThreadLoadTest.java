@@ -0,0 +1,99 @@
+package com.testExample.demo.load;
+
+import com.testExample.demo.DemoApplication;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// mvn test -Dbenchmark=true -Dtest=VirtualThreadLoadTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class VirtualThreadLoadTest {
+
+    private static final int REQUESTS = 6_000;
+    private static final int CONCURRENCY = 600;
+    private static final long BLOCKING_MILLIS = 50;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void reportThroughputAndP99(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class, BlockingDependencyController.class)
+                .properties("server.port=0", "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/load-test/blocking");
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build()) {
+                run(client, uri, CONCURRENCY);
+                LoadResult result = run(client, uri, REQUESTS);
+                System.out.printf("virtual=%s requests=%,d concurrencia=%d bloqueo=%dms -> %,.0f req/s p50=%.1fms p99=%.1fms%n",
+                        virtualThreads, REQUESTS, CONCURRENCY, BLOCKING_MILLIS, result.throughput(),
+                        result.percentileMillis(0.50), result.percentileMillis(0.99));
+            }
+        }
+    }
+
+    private LoadResult run(HttpClient client, URI uri, int requests) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long[] latencies = new long[requests];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            futures[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        inFlight.release();
+                    })
+                    .thenAccept(response -> assertEquals(200, response.statusCode()));
+        }
+        CompletableFuture.allOf(futures).join();
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new LoadResult(latencies, elapsed);
+    }
+
+    private record LoadResult(long[] sortedLatencies, long elapsedNanos) {
+
+        double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            return sortedLatencies[(int) ((sortedLatencies.length - 1) * percentile)] / 1e6;
+        }
+    }
+
+    @RestController
+    static class BlockingDependencyController {
+
+        @GetMapping("/load-test/blocking")
+        public String blocking() throws InterruptedException {
+            Thread.sleep(BLOCKING_MILLIS);
+            return "ok";
+        }
+    }
+}
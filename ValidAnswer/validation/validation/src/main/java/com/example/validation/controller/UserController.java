@@ -1,28 +1,181 @@
 package com.example.validation.controller;
 
+import com.example.validation.dtos.BatchResultDto;
 import com.example.validation.dtos.UserDto;
+import com.example.validation.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SimpleErrors;
+import org.springframework.validation.Validator;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/users")
 public class UserController {
-    private Long countId = 0L;
-    private List<UserDto> users = new ArrayList<>();
+    public static final String NEXT_AFTER_HEADER = "X-Next-After";
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+    static final int MAX_BATCH_ITEMS = 1000;
+    static final long MAX_BATCH_BYTES = 1024 * 1024;
+    static final String NULL_ITEM_FIELD = "user";
+    static final String NULL_ITEM_MESSAGE = "el usuario no puede ser nulo";
+    private static final int STREAM_FLUSH_EVERY = 512;
+
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final ObjectReader userReader;
+    private final ObjectWriter ndjsonWriter;
+
+    // El mismo validador que usa @Valid (TimedValidator), para que el batch tambien quede en validation.duration.
+    public UserController(UserRepository userRepository, @Qualifier("mvcValidator") Validator validator,
+                          ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.userReader = objectMapper.readerFor(UserDto.class);
+        this.ndjsonWriter = objectMapper.writerFor(UserDto.class).withRootValueSeparator("\n");
+    }
+
     @GetMapping("")
-    public List<UserDto> getUsers(){
-        return users;
+    public ResponseEntity<List<UserDto>> getUsers(@RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+                                                  @RequestParam(required = false) Long after){
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<UserDto> page = userRepository.findPage(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == limit) {
+            Long lastId = page.get(page.size() - 1).getIdUser();
+            if (userRepository.existsAfter(lastId)) {
+                response.header(NEXT_AFTER_HEADER, String.valueOf(lastId));
+            }
+        }
+        return response.body(page);
+    }
+
+    @GetMapping(value = "", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers(){
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter sequence = ndjsonWriter.writeValues(out)) {
+                int written = 0;
+                for (UserDto user : userRepository.view()) {
+                    sequence.write(user);
+                    if (++written % STREAM_FLUSH_EVERY == 0) {
+                        sequence.flush();
+                    }
+                }
+                if (written > 0) {
+                    sequence.flush();
+                    out.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @PostMapping("")
     @ResponseStatus(HttpStatus.CREATED)
     public UserDto createUser(@Valid @RequestBody UserDto userDto){
-        userDto.setIdUser(countId++);
-        users.add(userDto);
-        return userDto;
+        return userRepository.save(userDto);
+    }
+
+    // El array se lee elemento por elemento para cortar en MAX_BATCH_ITEMS aunque el body llegue chunked.
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchResultDto> createUsersFromJson(@RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+                                                              InputStream body) throws IOException {
+        if (tooLarge(contentLength)) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        BatchResultDto result = new BatchResultDto();
+        List<UserDto> valid = new ArrayList<>();
+        try (JsonParser items = userReader.createParser(body)) {
+            JsonToken first = items.nextToken();
+            if (first == JsonToken.START_ARRAY) {
+                int index = 0;
+                while (items.nextToken() != JsonToken.END_ARRAY) {
+                    if (index == MAX_BATCH_ITEMS) {
+                        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+                    }
+                    UserDto userDto = items.currentToken() == JsonToken.VALUE_NULL ? null : userReader.readValue(items);
+                    collect(index++, userDto, valid, result);
+                }
+            } else if (first != JsonToken.VALUE_NULL) {
+                return ResponseEntity.badRequest().build();
+            }
+        } catch (JsonProcessingException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return saveValid(valid, result);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BatchResultDto> createUsersFromNdjson(@RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+                                                                InputStream body) throws IOException {
+        if (tooLarge(contentLength)) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        BatchResultDto result = new BatchResultDto();
+        List<UserDto> valid = new ArrayList<>();
+        try (MappingIterator<UserDto> items = userReader.readValues(body)) {
+            int index = 0;
+            while (items.hasNextValue()) {
+                // Se corta antes de leer el resto: un stream sin Content-Length no puede crecer sin limite.
+                if (index == MAX_BATCH_ITEMS) {
+                    return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+                }
+                collect(index++, items.nextValue(), valid, result);
+            }
+        }
+        return saveValid(valid, result);
+    }
+
+    private static boolean tooLarge(Long contentLength) {
+        return contentLength != null && contentLength > MAX_BATCH_BYTES;
+    }
+
+    // 201 si se creo al menos un usuario; si se rechazaron todos, 400 con los errores por indice.
+    private ResponseEntity<BatchResultDto> saveValid(List<UserDto> valid, BatchResultDto result) {
+        result.setCreated(userRepository.saveAll(valid));
+        HttpStatus status = valid.isEmpty() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    private void collect(int index, UserDto userDto, List<UserDto> valid, BatchResultDto result) {
+        if (userDto == null) {
+            result.getErrors().put(index, Map.of(NULL_ITEM_FIELD, NULL_ITEM_MESSAGE));
+            return;
+        }
+        Errors violations = new SimpleErrors(userDto, "userDto");
+        validator.validate(userDto, violations);
+        if (!violations.hasErrors()) {
+            valid.add(userDto);
+            return;
+        }
+        Map<String, String> errors = new HashMap<>();
+        for (FieldError violation : violations.getFieldErrors()) {
+            errors.put(violation.getField(), violation.getDefaultMessage());
+        }
+        result.getErrors().put(index, errors);
     }
 }
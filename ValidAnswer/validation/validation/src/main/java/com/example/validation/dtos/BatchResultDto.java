@@ -0,0 +1,30 @@
+package com.example.validation.dtos;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class BatchResultDto {
+
+    private List<UserDto> created;
+    private Map<Integer, Map<String, String>> errors = new TreeMap<>();
+
+    public BatchResultDto() {
+    }
+
+    public List<UserDto> getCreated() {
+        return created;
+    }
+
+    public void setCreated(List<UserDto> created) {
+        this.created = created;
+    }
+
+    public Map<Integer, Map<String, String>> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<Integer, Map<String, String>> errors) {
+        this.errors = errors;
+    }
+}
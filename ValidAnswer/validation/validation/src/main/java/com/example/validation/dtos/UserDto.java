@@ -1,4 +1,5 @@
 package com.example.validation.dtos;
+import com.example.validation.validators.StrongPassword;
 import jakarta.validation.constraints.*;
 
 public class UserDto {
@@ -10,8 +11,7 @@ public class UserDto {
     private String email;
     @Min(value = 18, message = "La edad minima es 18 años")
     private int age;
-    @Pattern(regexp = "^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d)(?=.*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?]).{8,}$",
-            message = "La contraseña debe tener al menos 8 caracteres, una letra mayúscula, una letra minúscula, un número y un carácter especial.")
+    @StrongPassword
     private String password;
 
     public UserDto() {
@@ -1,5 +1,7 @@
 package com.example.validation.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -8,18 +10,68 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final int MAX_CACHED_FIELDS = 256;
+
+    // Los mensajes salen de las anotaciones, asi que hay pocas combinaciones campo/mensaje posibles.
+    private final Map<String, Map<String, Map<String, String>>> singleErrors = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> validExceptionHandler(MethodArgumentNotValidException e) {
-        Map<String, String> errors = new HashMap<>();
-        for (FieldError error : e.getBindingResult().getFieldErrors()) {
+        List<FieldError> fieldErrors = e.getBindingResult().getFieldErrors();
+        for (FieldError error : fieldErrors) {
+            rejections.computeIfAbsent(error.getField(), this::rejectionCounter).increment();
+        }
+        if (fieldErrors.size() == 1) {
+            return singleError(fieldErrors.get(0).getField(), fieldErrors.get(0).getDefaultMessage());
+        }
+        Map<String, String> errors = new HashMap<>(fieldErrors.size() * 2);
+        for (FieldError error : fieldErrors) {
             errors.put(error.getField(), error.getDefaultMessage());
         }
         return errors;
     }
+
+    private Counter rejectionCounter(String field) {
+        return Counter.builder("validation.rejections")
+                .description("Campos rechazados por Bean Validation")
+                .tag("field", field)
+                .register(meterRegistry);
+    }
+
+    private Map<String, String> singleError(String field, String message) {
+        if (message == null) {
+            Map<String, String> errors = new HashMap<>(2);
+            errors.put(field, null);
+            return errors;
+        }
+        Map<String, Map<String, String>> byMessage = singleErrors.get(field);
+        if (byMessage == null) {
+            if (singleErrors.size() >= MAX_CACHED_FIELDS) {
+                return Map.of(field, message);
+            }
+            byMessage = singleErrors.computeIfAbsent(field, key -> new ConcurrentHashMap<>());
+        }
+        Map<String, String> errors = byMessage.get(message);
+        if (errors == null) {
+            if (byMessage.size() >= MAX_CACHED_FIELDS) {
+                return Map.of(field, message);
+            }
+            errors = byMessage.computeIfAbsent(message, key -> Map.of(field, key));
+        }
+        return errors;
+    }
 }
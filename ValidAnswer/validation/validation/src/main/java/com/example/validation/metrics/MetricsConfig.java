@@ -0,0 +1,24 @@
+package com.example.validation.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final jakarta.validation.Validator validator;
+    private final MeterRegistry meterRegistry;
+
+    public MetricsConfig(jakarta.validation.Validator validator, MeterRegistry meterRegistry) {
+        this.validator = validator;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TimedValidator(new SpringValidatorAdapter(validator), meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.validation.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+import java.util.concurrent.TimeUnit;
+
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final MeterRegistry meterRegistry;
+    private final ClassValue<Timer> timers = new ClassValue<>() {
+        @Override
+        protected Timer computeValue(Class<?> type) {
+            return Timer.builder("validation.duration")
+                    .description("Tiempo de Bean Validation sobre el body del request")
+                    .tag("target", type.getSimpleName())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    };
+
+    public TimedValidator(SmartValidator delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            timers.get(target.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            timers.get(target.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.validation.repository;
+
+import com.example.validation.dtos.UserDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+public class UserRepository {
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentNavigableMap<Long, UserDto> users = new ConcurrentSkipListMap<>();
+    private final Timer saveTimer;
+    private final Timer saveAllTimer;
+
+    public UserRepository() {
+        this(Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public UserRepository(MeterRegistry meterRegistry) {
+        this.saveTimer = storageTimer("save", meterRegistry);
+        this.saveAllTimer = storageTimer("saveAll", meterRegistry);
+    }
+
+    private static Timer storageTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("users.storage.duration")
+                .description("Tiempo de escritura en el repositorio de usuarios")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public UserDto save(UserDto userDto) {
+        long start = System.nanoTime();
+        userDto.setIdUser(sequence.getAndIncrement());
+        users.put(userDto.getIdUser(), userDto);
+        saveTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return userDto;
+    }
+
+    public List<UserDto> saveAll(List<UserDto> userDtos) {
+        long start = System.nanoTime();
+        long id = sequence.getAndAdd(userDtos.size());
+        for (UserDto userDto : userDtos) {
+            userDto.setIdUser(id++);
+            users.put(userDto.getIdUser(), userDto);
+        }
+        saveAllTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return userDtos;
+    }
+
+    public Optional<UserDto> findById(Long id) {
+        return Optional.ofNullable(users.get(id));
+    }
+
+    public List<UserDto> findAll() {
+        return new ArrayList<>(users.values());
+    }
+
+    public List<UserDto> findPage(Long after, int limit) {
+        Collection<UserDto> candidates = after == null ? users.values() : users.tailMap(after, false).values();
+        List<UserDto> page = new ArrayList<>(Math.min(limit, 1024));
+        for (UserDto user : candidates) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(user);
+        }
+        return page;
+    }
+
+    public boolean existsAfter(Long id) {
+        return users.higherKey(id) != null;
+    }
+
+    public Collection<UserDto> view() {
+        return Collections.unmodifiableCollection(users.values());
+    }
+
+    public long count() {
+        return users.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.validation.validators;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class StrongPasswordValidator implements ConstraintValidator<StrongPassword, String> {
+
+    private static final String SPECIAL_CHARACTERS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+    private static final boolean[] SPECIAL = new boolean[128];
+
+    static {
+        for (int i = 0; i < SPECIAL_CHARACTERS.length(); i++) {
+            SPECIAL[SPECIAL_CHARACTERS.charAt(i)] = true;
+        }
+    }
+
+    private int minLength = 8;
+
+    @Override
+    public void initialize(StrongPassword constraint) {
+        this.minLength = constraint.minLength();
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || isStrong(value, minLength);
+    }
+
+    // Misma politica que el @Pattern anterior: una sola pasada, sin backtracking.
+    public static boolean isStrong(String value, int minLength) {
+        int length = value.length();
+        if (length < minLength) {
+            return false;
+        }
+        boolean upper = false;
+        boolean lower = false;
+        boolean digit = false;
+        boolean special = false;
+        int codePoints = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                if (c == '\n' || c == '\r') {
+                    return false;
+                }
+                if (c >= 'A' && c <= 'Z') {
+                    upper = true;
+                } else if (c >= 'a' && c <= 'z') {
+                    lower = true;
+                } else if (c >= '0' && c <= '9') {
+                    digit = true;
+                } else if (SPECIAL[c]) {
+                    special = true;
+                }
+            } else if (c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                i++;
+            }
+            codePoints++;
+        }
+        return upper && lower && digit && special && codePoints >= minLength;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.validation.benchmarks;
+
+import com.example.validation.controller.UserController;
+import com.example.validation.dtos.UserDto;
+import com.example.validation.exception.GlobalExceptionHandler;
+import com.example.validation.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerDispatchBenchmark {
+
+    private static final String VALID_USER = """
+            {"name": "Ana", "email": "ana@mail.com", "age": 25, "password": "Secret1!"}""";
+    private static final String INVALID_USER = """
+            {"name": "", "email": "no-es-email", "age": 10, "password": "secret"}""";
+
+    private LocalValidatorFactoryBean validator;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUpValidator() {
+        validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+    }
+
+    // Un repositorio nuevo por iteracion para que los POST no acumulen usuarios entre mediciones.
+    @Setup(Level.Iteration)
+    public void setUp() {
+        UserRepository repository = new UserRepository();
+        for (int i = 0; i < 1_000; i++) {
+            repository.save(new UserDto(null, "user" + i, "user" + i + "@mail.com", 30, "Secret1!"));
+        }
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(repository, validator, new ObjectMapper()))
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .setValidator(validator)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validator.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse createUser() throws Exception {
+        return mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON).content(VALID_USER))
+                .andReturn().getResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rejectUser() throws Exception {
+        return mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON).content(INVALID_USER))
+                .andReturn().getResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getUsersPage() throws Exception {
+        return mockMvc.perform(get("/users").param("limit", "20")).andReturn().getResponse();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.validation.benchmarks;
+
+import com.example.validation.dtos.UserDto;
+import com.example.validation.metrics.TimedValidator;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private SmartValidator plain;
+    private SmartValidator timed;
+    private UserDto user;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        plain = new SpringValidatorAdapter(validatorFactory.getValidator());
+        timed = new TimedValidator(plain, new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+        user = new UserDto(null, "Ana", "ana@mail.com", 25, "Secret1!");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Errors plainValidation() {
+        Errors errors = new BeanPropertyBindingResult(user, "userDto");
+        plain.validate(user, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors timedValidation() {
+        Errors errors = new BeanPropertyBindingResult(user, "userDto");
+        timed.validate(user, errors);
+        return errors;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.validation.benchmarks;
+
+import com.example.validation.validators.StrongPasswordValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordPolicyBenchmark {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(
+            "^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d)(?=.*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?]).{8,}$");
+
+    @Param({"valid", "invalid", "pathological"})
+    public String input;
+
+    private String password;
+
+    @Setup
+    public void setUp() {
+        password = switch (input) {
+            case "valid" -> "Secret1!";
+            case "invalid" -> "secret12";
+            // Sin caracter especial al final: el regex recorre la cadena una vez por cada look-ahead.
+            default -> "Aa1" + "a".repeat(10_000);
+        };
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return LEGACY_PATTERN.matcher(password).matches();
+    }
+
+    @Benchmark
+    public boolean singlePass() {
+        return StrongPasswordValidator.isStrong(password, 8);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PasswordPolicyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
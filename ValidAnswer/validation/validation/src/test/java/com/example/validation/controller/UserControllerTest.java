@@ -0,0 +1,185 @@
+package com.example.validation.controller;
+
+import com.example.validation.dtos.UserDto;
+import com.example.validation.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(UserController.class)
+@Import({UserRepository.class, SimpleMeterRegistry.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            userRepository.save(new UserDto(null, "user" + i, "user" + i + "@mail.com", 20 + i, "Secret1!"));
+        }
+    }
+
+    @Test
+    void shouldReturnFirstPageWithCursor() throws Exception {
+        mockMvc.perform(get("/users").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(UserController.NEXT_AFTER_HEADER, "1"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].idUser").value(0))
+                .andExpect(jsonPath("$[1].idUser").value(1));
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() throws Exception {
+        mockMvc.perform(get("/users").param("limit", "2").param("after", "3"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(UserController.NEXT_AFTER_HEADER))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].idUser").value(4));
+    }
+
+    @Test
+    void shouldRejectLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/users").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/users").param("limit", String.valueOf(UserController.MAX_LIMIT + 1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldStreamUsersAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/users").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(5, lines.length);
+        assertTrue(lines[4].contains("\"idUser\":4"));
+    }
+
+    @Test
+    void shouldCreateValidUsersAndReportErrorsPerIndex() throws Exception {
+        String body = """
+        [
+            {"name": "Ana", "email": "ana@mail.com", "age": 25, "password": "Secret1!"},
+            {"name": "", "email": "no-es-email", "age": 25, "password": "Secret1!"},
+            {"name": "Luis", "email": "luis@mail.com", "age": 40, "password": "Secret1!"}
+        ]
+        """;
+
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created.length()").value(2))
+                .andExpect(jsonPath("$.created[0].idUser").value(5))
+                .andExpect(jsonPath("$.created[1].idUser").value(6))
+                .andExpect(jsonPath("$.errors.1.name").value("el nombre no puede estar vacio"))
+                .andExpect(jsonPath("$.errors.1.email").value("el email debe ser válido"))
+                .andExpect(jsonPath("$.errors.0").doesNotExist());
+
+        assertEquals(7, userRepository.count());
+    }
+
+    @Test
+    void shouldCreateUsersFromNdjson() throws Exception {
+        String body = """
+        {"name": "Ana", "email": "ana@mail.com", "age": 25, "password": "Secret1!"}
+        {"name": "Luis", "email": "luis@mail.com", "age": 17, "password": "Secret1!"}
+        """;
+
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created.length()").value(1))
+                .andExpect(jsonPath("$.errors.1.age").value("La edad minima es 18 años"));
+    }
+
+    @Test
+    void shouldReportNullBatchItemAsInvalid() throws Exception {
+        String body = """
+        [{"name": "Ana", "email": "ana@mail.com", "age": 25, "password": "Secret1!"}, null]
+        """;
+
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created.length()").value(1))
+                .andExpect(jsonPath("$.errors.1.user").value("el usuario no puede ser nulo"));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenEveryBatchItemIsRejected() throws Exception {
+        String body = """
+        [{"name": "", "email": "ana@mail.com", "age": 25, "password": "Secret1!"}, null]
+        """;
+
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.created.length()").value(0))
+                .andExpect(jsonPath("$.errors.0.name").value("el nombre no puede estar vacio"));
+
+        assertEquals(5, userRepository.count());
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() throws Exception {
+        String user = "{\"name\": \"Ana\", \"email\": \"ana@mail.com\", \"age\": 25, \"password\": \"Secret1!\"}";
+        String body = (user + "\n").repeat(UserController.MAX_BATCH_ITEMS + 1);
+
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isPayloadTooLarge());
+
+        assertEquals(5, userRepository.count());
+    }
+
+    @Test
+    void shouldRejectOversizedJsonBatchWhileStreaming() throws Exception {
+        String user = "{\"name\": \"Ana\", \"email\": \"ana@mail.com\", \"age\": 25, \"password\": \"Secret1!\"}";
+        String body = "[" + (user + ",").repeat(UserController.MAX_BATCH_ITEMS) + user + "]";
+
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isPayloadTooLarge());
+
+        assertEquals(5, userRepository.count());
+    }
+
+    @Test
+    void shouldRejectMalformedJsonBatch() throws Exception {
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON).content("[{\"name\": \"Ana\""))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(5, userRepository.count());
+    }
+
+    @Test
+    void shouldRejectWeakPasswordWithPolicyMessage() throws Exception {
+        String body = """
+        {"name": "Ana", "email": "ana@mail.com", "age": 25, "password": "secret"}
+        """;
+
+        mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.password").value("La contraseña debe tener al menos 8 caracteres, una letra mayúscula, una letra minúscula, un número y un carácter especial."));
+    }
+}
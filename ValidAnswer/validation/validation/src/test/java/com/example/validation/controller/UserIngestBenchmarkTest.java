@@ -0,0 +1,59 @@
+package com.example.validation.controller;
+
+import com.example.validation.dtos.UserDto;
+import com.example.validation.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// mvn test -Dbenchmark=true -Dtest=UserIngestBenchmarkTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class UserIngestBenchmarkTest {
+
+    private static final int USERS = 20_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Test
+    void reportUsersPerSecond() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new UserController(new UserRepository(), validator, objectMapper))
+                .setValidator(validator)
+                .build();
+
+        List<UserDto> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new UserDto(null, "user" + i, "user" + i + "@mail.com", 18 + i % 60, "Secret1!"));
+        }
+
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            for (UserDto user : users) {
+                mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(user)));
+            }
+            double single = USERS / ((System.nanoTime() - start) / 1e9);
+
+            start = System.nanoTime();
+            for (int from = 0; from < USERS; from += BATCH_SIZE) {
+                mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(users.subList(from, from + BATCH_SIZE))));
+            }
+            double batch = USERS / ((System.nanoTime() - start) / 1e9);
+
+            System.out.printf("ronda %d: POST /users=%,.0f users/s POST /users/batch(%d)=%,.0f users/s (x%.1f)%n",
+                    round, single, BATCH_SIZE, batch, batch / single);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.validation.controller;
+
+import com.example.validation.dtos.UserDto;
+import com.example.validation.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// mvn test -Dbenchmark=true -Dtest=UserListingBenchmarkTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class UserListingBenchmarkTest {
+
+    private static final int PAGE_ROUNDS = 200;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000, 1_000_000})
+    void reportListingLatency(int size) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        UserRepository repository = new UserRepository();
+        for (int i = 0; i < size; i++) {
+            repository.save(new UserDto(null, "user" + i, "user" + i + "@mail.com", 18 + i % 60, "Secret1!"));
+        }
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new UserController(repository,
+                new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()), objectMapper)).build();
+
+        long lastId = size - UserController.DEFAULT_LIMIT - 1;
+        for (int i = 0; i < PAGE_ROUNDS; i++) {
+            mockMvc.perform(get("/users").param("after", String.valueOf(i % lastId)));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < PAGE_ROUNDS; i++) {
+            mockMvc.perform(get("/users").param("after", String.valueOf((i * 7919L) % lastId)));
+        }
+        double pageMicros = (System.nanoTime() - start) / 1_000.0 / PAGE_ROUNDS;
+
+        start = System.nanoTime();
+        MvcResult streamed = mockMvc.perform(get("/users").accept(MediaType.APPLICATION_NDJSON)).andReturn();
+        mockMvc.perform(asyncDispatch(streamed));
+        double streamMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        byte[] fullList = objectMapper.writeValueAsBytes(repository.findAll());
+        double fullListMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.printf("users=%,d page(limit=%d)=%.1f us stream=%.1f ms lista completa=%.1f ms (%,d bytes)%n",
+                size, UserController.DEFAULT_LIMIT, pageMicros, streamMillis, fullListMillis, fullList.length);
+    }
+}
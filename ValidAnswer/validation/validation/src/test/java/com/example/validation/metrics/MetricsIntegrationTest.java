@@ -0,0 +1,55 @@
+package com.example.validation.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExposeBindingValidationStorageAndRejectionMetrics() throws Exception {
+        mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Ana\", \"email\": \"ana@mail.com\", \"age\": 25, \"password\": \"Secret1!\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Ana\", \"email\": \"ana@mail.com\", \"age\": 25, \"password\": \"secret\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("binding_duration_seconds_count{target=\"UserDto\"} 2")))
+                .andExpect(content().string(containsString("validation_duration_seconds_count{target=\"UserDto\"} 2")))
+                .andExpect(content().string(containsString("users_storage_duration_seconds_count{operation=\"save\"} 1")))
+                .andExpect(content().string(containsString("validation_rejections_total{field=\"password\"} 1")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")));
+    }
+
+    @Test
+    void shouldTimeBatchItemValidation() throws Exception {
+        String user = "{\"name\": \"Ana\", \"email\": \"ana@mail.com\", \"age\": 25, \"password\": \"Secret1!\"}";
+        mockMvc.perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + user + "," + user + "," + user + "]"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("validation_duration_seconds_count{target=\"UserDto\"} 3")));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.validation.repository;
+
+import com.example.validation.dtos.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int CREATES_PER_THREAD = 4_000;
+
+    @Test
+    void shouldAssignSequentialIdsStartingAtZero() {
+        UserRepository repository = new UserRepository();
+
+        UserDto first = repository.save(new UserDto(null, "Ana", "ana@mail.com", 20, "Secret1!"));
+        UserDto second = repository.save(new UserDto(null, "Luis", "luis@mail.com", 30, "Secret1!"));
+
+        assertEquals(0L, first.getIdUser());
+        assertEquals(1L, second.getIdUser());
+        assertSame(second, repository.findById(1L).orElseThrow());
+        assertTrue(repository.findById(2L).isEmpty());
+    }
+
+    @Test
+    void shouldNotLoseOrDuplicateIdsUnderConcurrentCreates() throws Exception {
+        UserRepository repository = new UserRepository();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                List<Long> ids = new ArrayList<>(CREATES_PER_THREAD);
+                start.await();
+                for (int i = 0; i < CREATES_PER_THREAD; i++) {
+                    ids.add(repository.save(new UserDto(null, "user" + i, "user" + i + "@mail.com", 18, "Secret1!")).getIdUser());
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            for (Long id : future.get(1, TimeUnit.MINUTES)) {
+                assertTrue(ids.add(id), "id duplicado: " + id);
+            }
+        }
+        executor.shutdown();
+
+        int total = THREADS * CREATES_PER_THREAD;
+        assertEquals(total, ids.size());
+        assertEquals(total, repository.count());
+        assertEquals(total, repository.findAll().size());
+        for (long id = 0; id < total; id++) {
+            assertTrue(ids.contains(id), "id faltante: " + id);
+        }
+    }
+}
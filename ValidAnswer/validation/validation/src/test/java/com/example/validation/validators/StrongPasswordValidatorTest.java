@@ -0,0 +1,52 @@
+package com.example.validation.validators;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StrongPasswordValidatorTest {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(
+            "^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d)(?=.*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?]).{8,}$");
+
+    private final StrongPasswordValidator validator = new StrongPasswordValidator();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Secret1!", "aB3$aaaa", "Zz9\\zzzz", "Üñ1!aA..", "aB3?😀😀😀😀", "Aa1-Aa1-"})
+    void shouldAcceptPasswordsMatchingThePolicy(String password) {
+        assertTrue(validator.isValid(password, null));
+        assertTrue(LEGACY_PATTERN.matcher(password).matches());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "Secret1", "secret1!", "SECRET1!", "Secret!!", "Secret11", "Sec\nret1!", "Se cret1!", "aB3?😀😀😀"})
+    void shouldRejectPasswordsBreakingThePolicy(String password) {
+        assertFalse(validator.isValid(password, null));
+        assertFalse(LEGACY_PATTERN.matcher(password).matches());
+    }
+
+    @Test
+    void shouldAcceptNullLikePattern() {
+        assertTrue(validator.isValid(null, null));
+    }
+
+    @Test
+    void shouldAgreeWithLegacyPatternOnRandomInputs() {
+        Random random = new Random(42);
+        String alphabet = "aZ9!\\\n~ ñ " + "😀" + "\uD800";
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder password = new StringBuilder();
+            int length = random.nextInt(14);
+            for (int j = 0; j < length; j++) {
+                password.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String value = password.toString();
+            assertEquals(LEGACY_PATTERN.matcher(value).matches(), validator.isValid(value, null), value);
+        }
+    }
+}